@@ -0,0 +1,66 @@
+//***************************************************************************************
+//
+//     Filename: CalendarEntrySerializationBenchmark.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file benchmarks writing calendar entry lists as JSON.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//***************************************************************************************
+
+//The mapper is built the way Spring Boot builds the application's, so dates are written as
+//ISO strings just as the controllers return them.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalendarEntrySerializationBenchmark
+{
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<CalendarEntry> entries;
+
+    @Setup
+    public void setUp()
+    {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        entries = new ArrayList<>(size);
+        LocalDate date = LocalDate.of(2026, 10, 18);
+        for (int i = 0; i < size; i++)
+        {
+            entries.add(new CalendarEntry(i + 1, "Entry " + i,
+                    "Today I am grateful for the people around me and a quiet morning walk.",
+                    date.minusDays(i), 42));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException
+    {
+        return objectMapper.writeValueAsBytes(entries);
+    }
+}
+
+//***************************************************************************************
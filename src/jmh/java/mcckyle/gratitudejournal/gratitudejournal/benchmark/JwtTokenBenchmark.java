@@ -0,0 +1,84 @@
+//***************************************************************************************
+//
+//     Filename: JwtTokenBenchmark.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file benchmarks signing and verifying access tokens.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.benchmark;
+
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+//***************************************************************************************
+
+//verifyUncached walks a ring of distinct tokens through a one-entry verified-token cache, so
+//every call pays for the HMAC check and claim parsing; verifyCached repeats a single token
+//and measures the SHA-256 lookup that repeat requests take instead.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark
+{
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final int RING_SIZE = 4096;
+    private static final int EXPIRATION_MS = 3_600_000;
+
+    private final List<GrantedAuthority> authorities =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private JwtTokenService cachingService;
+    private JwtTokenService uncachedService;
+    private String token;
+    private String[] ring;
+    private int next;
+
+    @Setup
+    public void setUp()
+    {
+        cachingService = new JwtTokenService(SECRET, EXPIRATION_MS, 10_000);
+        uncachedService = new JwtTokenService(SECRET, EXPIRATION_MS, 1);
+
+        token = cachingService.generateJwtToken(42, "kyle", authorities, 0);
+        ring = new String[RING_SIZE];
+        for (int i = 0; i < RING_SIZE; i++)
+        {
+            ring[i] = cachingService.generateJwtToken(i, "user" + i, authorities, 0);
+        }
+    }
+
+    @Benchmark
+    public String generateJwtToken()
+    {
+        return cachingService.generateJwtToken(42, "kyle", authorities, 0);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyUncached()
+    {
+        next = (next + 1) & (RING_SIZE - 1);
+        return uncachedService.verify(ring[next]);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached()
+    {
+        return cachingService.verify(token);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,62 @@
+//***************************************************************************************
+//
+//     Filename: PasswordEncoderBenchmark.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file benchmarks bcrypt at several cost factors.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.concurrent.TimeUnit;
+
+//***************************************************************************************
+
+//Each strength step doubles the cost, which is what CalibratedPasswordEncoders assumes when
+//it scales its probe up to the target; the results show where this host lands for each one.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class PasswordEncoderBenchmark
+{
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp()
+    {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public String encode()
+    {
+        return encoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public boolean matches()
+    {
+        return encoder.matches("correct horse battery staple", hash);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,71 @@
+//***************************************************************************************
+//
+//     Filename: UserDetailsBenchmark.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file benchmarks building the security principal.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.benchmark;
+
+import mcckyle.gratitudejournal.gratitudejournal.model.Role;
+import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsImpl;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//***************************************************************************************
+
+//The two ways a request gets its principal: from a loaded User, or from token claims alone.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserDetailsBenchmark
+{
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private User user;
+    private VerifiedToken verifiedToken;
+
+    @Setup
+    public void setUp()
+    {
+        Role userRole = new Role("ROLE_USER");
+        userRole.setId(1);
+        Role adminRole = new Role("ROLE_ADMIN");
+        adminRole.setId(2);
+
+        user = new User("kyle", "kyle@example.com", "{bcrypt}hash", Set.of(userRole, adminRole));
+        user.setId(42);
+        user.setBio("Grateful every day.");
+
+        UserDetailsImpl principal = UserDetailsImpl.build(user);
+        JwtTokenService tokenService = new JwtTokenService(SECRET, 3_600_000, 10);
+        String token = tokenService.generateJwtToken(42, "kyle", principal.getAuthorities(), 0);
+        verifiedToken = tokenService.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    public UserDetailsImpl buildFromUser()
+    {
+        return UserDetailsImpl.build(user);
+    }
+
+    @Benchmark
+    public UserDetailsImpl buildFromToken()
+    {
+        return UserDetailsImpl.fromToken(verifiedToken);
+    }
+}
+
+//***************************************************************************************
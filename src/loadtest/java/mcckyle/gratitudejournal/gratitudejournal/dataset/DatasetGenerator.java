@@ -0,0 +1,344 @@
+//***************************************************************************************
+//
+//     Filename: DatasetGenerator.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file fills a database with synthetic users and journal entries.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dataset;
+
+import mcckyle.gratitudejournal.gratitudejournal.GratitudeJournalApplication;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.service.RoleRegistry;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+//***************************************************************************************
+
+//Entry point for ./gradlew generateDataset. The application starts under the dataset profile
+//on a random local port, so Hibernate and SchemaMigration set up the schema first; the rows
+//themselves skip JPA and go straight through JDBC (COPY on PostgreSQL).
+//Entries per user follow a Zipf distribution: a few users write most of the entries, as in
+//production. Entries are written by several threads at once (dataset.writers), and their
+//dates fall across the last `years` years. Every user's password is
+//DatasetGenerator.PASSWORD. Their user_stats rows are written dirty, so the next stats
+//repair fills in the streaks. Entry ids are reserved from calendar_entries_seq, so the
+//application carries on from the right place afterwards. Run it while the app is stopped.
+public class DatasetGenerator
+{
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    public static final String PASSWORD = "dataset-password";
+
+    private static final int USER_BATCH_SIZE = 1000;
+    private static final long PROGRESS_EVERY = 1_000_000;
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final DatasetSettings settings;
+
+    public DatasetGenerator(DataSource dataSource, PasswordEncoder passwordEncoder, DatasetSettings settings)
+    {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        SpringApplication application = new SpringApplication(GratitudeJournalApplication.class);
+        application.setAdditionalProfiles("dataset");
+
+        try (ConfigurableApplicationContext context = application.run("--server.port=0"))
+        {
+            new DatasetGenerator(context.getBean(DataSource.class), context.getBean(PasswordEncoder.class),
+                    DatasetSettings.fromSystemProperties()).generate();
+        }
+    }
+
+    public void generate() throws SQLException, InterruptedException
+    {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long started = System.nanoTime();
+        boolean postgres;
+        List<Integer> userIds;
+        long[] counts;
+        int firstId;
+
+        try (Connection connection = dataSource.getConnection())
+        {
+            postgres = connection.isWrapperFor(PGConnection.class);
+            userIds = insertUsers(connection);
+            counts = zipfCounts(userIds.size(), settings.entries(), settings.zipfExponent(), random);
+            logger.info("Inserted {} users; the busiest will get {} entries", userIds.size(), max(counts));
+
+            firstId = reserveEntryIds(connection, settings.entries());
+        }
+
+        writeEntries(userIds, counts, firstId, random, started);
+
+        try (Connection connection = dataSource.getConnection())
+        {
+            insertStats(connection, userIds, counts);
+
+            if (postgres)
+            {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement())
+                {
+                    statement.execute("ANALYZE users");
+                    statement.execute("ANALYZE calendar_entries");
+                    statement.execute("ANALYZE entry_bodies");
+                }
+            }
+        }
+
+        logProgress(settings.entries(), started);
+        logger.info("Done: entry ids {} to {} ({})", firstId, firstId + settings.entries() - 1, postgres ? "COPY" : "JDBC batches");
+    }
+
+    //Each writer takes every n-th user on its own connection, so the database parses, indexes and
+    //computes the search columns for n streams at once. A user's entries get consecutive ids.
+    private void writeEntries(List<Integer> userIds, long[] counts, int firstId, SplittableRandom random, long started)
+            throws InterruptedException
+    {
+        int[] userFirstIds = new int[userIds.size()];
+        long nextId = firstId;
+        for (int user = 0; user < userIds.size(); user++)
+        {
+            userFirstIds[user] = (int) nextId;
+            nextId += counts[user];
+        }
+
+        int writers = Math.clamp(settings.writers(), 1, Math.max(1, userIds.size()));
+        SyntheticText text = new SyntheticText(settings.seed());
+        AtomicLong written = new AtomicLong();
+        List<Future<?>> results = new ArrayList<>(writers);
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try
+        {
+            for (int writer = 0; writer < writers; writer++)
+            {
+                int offset = writer;
+                SplittableRandom writerRandom = random.split();
+                results.add(executor.submit(() ->
+                {
+                    writeEntries(offset, writers, userIds, counts, userFirstIds, text, writerRandom, written, started);
+                    return null;
+                }));
+            }
+
+            for (Future<?> result : results)
+            {
+                result.get();
+            }
+        }
+        catch (ExecutionException e)
+        {
+            throw new IllegalStateException("Writing entries failed", e.getCause());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private void writeEntries(int offset, int stride, List<Integer> userIds, long[] counts, int[] userFirstIds,
+                              SyntheticText text, SplittableRandom random, AtomicLong written, long started)
+            throws SQLException, IOException
+    {
+        int days = settings.years() * 365;
+        LocalDate today = LocalDate.now();
+
+        try (Connection connection = dataSource.getConnection();
+             EntrySink sink = connection.isWrapperFor(PGConnection.class)
+                     ? new PostgresCopySink(connection, settings.chunkSize())
+                     : new JdbcBatchSink(connection, settings.chunkSize()))
+        {
+            for (int user = offset; user < userIds.size(); user += stride)
+            {
+                for (int i = 0; i < counts[user]; i++)
+                {
+                    sink.add(userFirstIds[user] + i, text.title(random), today.minusDays(random.nextInt(days)),
+                            userIds.get(user), text.content(random));
+
+                    if (written.incrementAndGet() % PROGRESS_EVERY == 0)
+                    {
+                        logProgress(written.get(), started);
+                    }
+                }
+            }
+        }
+    }
+
+    //Entry counts for each user: weight 1 / rank^exponent, scaled to the total. The rounding
+    //remainder goes to the top ranks, then ranks are shuffled so heavy users are not just low ids.
+    private static long[] zipfCounts(int users, long entries, double exponent, SplittableRandom random)
+    {
+        double[] weights = new double[users];
+        double total = 0;
+        for (int rank = 0; rank < users; rank++)
+        {
+            weights[rank] = 1 / Math.pow(rank + 1, exponent);
+            total += weights[rank];
+        }
+
+        long[] counts = new long[users];
+        long assigned = 0;
+        for (int rank = 0; rank < users; rank++)
+        {
+            counts[rank] = (long) Math.floor(entries * weights[rank] / total);
+            assigned += counts[rank];
+        }
+        for (int rank = 0; assigned < entries; rank = (rank + 1) % users)
+        {
+            counts[rank]++;
+            assigned++;
+        }
+
+        for (int i = users - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            long swap = counts[i];
+            counts[i] = counts[j];
+            counts[j] = swap;
+        }
+        return counts;
+    }
+
+    //Usernames carry a per-run tag, so running again adds users instead of hitting the unique constraints.
+    private List<Integer> insertUsers(Connection connection) throws SQLException
+    {
+        String prefix = "ds" + Long.toString(System.currentTimeMillis(), 36) + "-";
+        String hash = passwordEncoder.encode(PASSWORD);
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement insertUser = connection.prepareStatement(
+                "INSERT INTO users (username, email, password, token_epoch) VALUES (?, ?, ?, 0)"))
+        {
+            for (int i = 0; i < settings.users(); i++)
+            {
+                insertUser.setString(1, prefix + i);
+                insertUser.setString(2, prefix + i + "@example.com");
+                insertUser.setString(3, hash);
+                insertUser.addBatch();
+
+                if ((i + 1) % USER_BATCH_SIZE == 0)
+                {
+                    insertUser.executeBatch();
+                }
+            }
+            insertUser.executeBatch();
+        }
+
+        try (PreparedStatement insertRoles = connection.prepareStatement(
+                "INSERT INTO user_roles (user_id, role_id) SELECT u.id, r.id FROM users u, roles r " +
+                "WHERE r.name = ? AND u.username LIKE ?"))
+        {
+            insertRoles.setString(1, RoleRegistry.ROLE_USER);
+            insertRoles.setString(2, prefix + "%");
+            insertRoles.executeUpdate();
+        }
+        connection.commit();
+
+        List<Integer> ids = new ArrayList<>(settings.users());
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM users WHERE username LIKE ? ORDER BY id"))
+        {
+            select.setString(1, prefix + "%");
+            try (ResultSet rows = select.executeQuery())
+            {
+                while (rows.next())
+                {
+                    ids.add(rows.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    //Takes the next value of the pooled sequence as the first id and restarts the sequence one
+    //allocation past the last, so ids Hibernate hands out later cannot overlap the generated ones.
+    private static int reserveEntryIds(Connection connection, long entries) throws SQLException
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            long first;
+            try (ResultSet next = statement.executeQuery("SELECT nextval('calendar_entries_seq')"))
+            {
+                next.next();
+                first = next.getLong(1);
+            }
+
+            long restartAt = first + entries - 1 + CalendarEntry.ID_ALLOCATION_SIZE;
+            if (restartAt > Integer.MAX_VALUE)
+            {
+                throw new IllegalArgumentException("Entry ids would pass the largest integer id; generate fewer entries");
+            }
+
+            statement.execute("ALTER SEQUENCE calendar_entries_seq RESTART WITH " + restartAt);
+            connection.commit();
+            return (int) first;
+        }
+    }
+
+    private static void insertStats(Connection connection, List<Integer> userIds, long[] counts) throws SQLException
+    {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO user_stats (user_id, total_entries, current_streak, longest_streak, dirty) VALUES (?, ?, 0, 0, true)"))
+        {
+            for (int user = 0; user < userIds.size(); user++)
+            {
+                if (counts[user] > 0)
+                {
+                    insert.setInt(1, userIds.get(user));
+                    insert.setLong(2, counts[user]);
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static long max(long[] counts)
+    {
+        long max = 0;
+        for (long count : counts)
+        {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    private static void logProgress(long written, long startedNanos)
+    {
+        double seconds = (System.nanoTime() - startedNanos) / 1e9;
+        logger.info("{} entries in {} s ({} rows/s)", written, Math.round(seconds), Math.round(written / seconds));
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,37 @@
+//***************************************************************************************
+//
+//     Filename: DatasetSettings.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file holds the dataset generator's knobs, read from system properties.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dataset;
+
+//***************************************************************************************
+
+//Each setting is a dataset.* system property; the generateDataset Gradle task passes
+//-Pdataset.* project properties through. The defaults are the production shape at scale.
+public record DatasetSettings(int users, long entries, double zipfExponent, int years,
+                              int writers, int chunkSize, long seed)
+{
+    public static DatasetSettings fromSystemProperties()
+    {
+        return new DatasetSettings(
+                Integer.parseInt(property("users", "100000")),
+                Long.parseLong(property("entries", "10000000")),
+                Double.parseDouble(property("zipf-exponent", "1.0")),
+                Integer.parseInt(property("years", "5")),
+                Integer.parseInt(property("writers", String.valueOf(Math.min(8, Runtime.getRuntime().availableProcessors())))),
+                Integer.parseInt(property("chunk-size", "50000")),
+                Long.parseLong(property("seed", "42")));
+    }
+
+    private static String property(String name, String defaultValue)
+    {
+        return System.getProperty("dataset." + name, defaultValue);
+    }
+}
+
+//***************************************************************************************
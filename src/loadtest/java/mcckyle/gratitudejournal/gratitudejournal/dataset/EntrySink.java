@@ -0,0 +1,28 @@
+//***************************************************************************************
+//
+//     Filename: EntrySink.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file is the target the generator writes calendar entries into.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dataset;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+//***************************************************************************************
+
+//Rows are buffered and written a chunk at a time, the entries before their bodies so the
+//foreign key holds; close() writes whatever is left.
+public interface EntrySink extends AutoCloseable
+{
+    void add(int id, String title, LocalDate entryDate, int userId, String content) throws SQLException, IOException;
+
+    @Override
+    void close() throws SQLException, IOException;
+}
+
+//***************************************************************************************
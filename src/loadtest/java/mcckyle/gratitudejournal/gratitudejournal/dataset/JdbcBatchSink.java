@@ -0,0 +1,87 @@
+//***************************************************************************************
+//
+//     Filename: JdbcBatchSink.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file writes calendar entries with JDBC batch inserts.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dataset;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+//***************************************************************************************
+
+//For databases without COPY. Each chunk is one batch per table in one transaction.
+public class JdbcBatchSink implements EntrySink
+{
+    private final Connection connection;
+    private final PreparedStatement insertEntry;
+    private final PreparedStatement insertBody;
+    private final int chunkSize;
+    private int buffered;
+
+    public JdbcBatchSink(Connection connection, int chunkSize) throws SQLException
+    {
+        this.connection = connection;
+        this.chunkSize = chunkSize;
+        connection.setAutoCommit(false);
+
+        this.insertEntry = connection.prepareStatement(
+                "INSERT INTO calendar_entries (id, title, entry_date, user_id, version) VALUES (?, ?, ?, ?, 0)");
+        this.insertBody = connection.prepareStatement("INSERT INTO entry_bodies (entry_id, content) VALUES (?, ?)");
+    }
+
+    @Override
+    public void add(int id, String title, LocalDate entryDate, int userId, String content) throws SQLException
+    {
+        insertEntry.setInt(1, id);
+        insertEntry.setString(2, title);
+        insertEntry.setDate(3, Date.valueOf(entryDate));
+        insertEntry.setInt(4, userId);
+        insertEntry.addBatch();
+
+        insertBody.setInt(1, id);
+        insertBody.setString(2, content);
+        insertBody.addBatch();
+
+        if (++buffered >= chunkSize)
+        {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException
+    {
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            insertEntry.close();
+            insertBody.close();
+        }
+    }
+
+    private void flush() throws SQLException
+    {
+        if (buffered == 0)
+        {
+            return;
+        }
+
+        insertEntry.executeBatch();
+        insertBody.executeBatch();
+        connection.commit();
+        buffered = 0;
+    }
+}
+
+//***************************************************************************************
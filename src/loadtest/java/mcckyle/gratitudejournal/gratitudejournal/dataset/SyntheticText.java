@@ -0,0 +1,74 @@
+//***************************************************************************************
+//
+//     Filename: SyntheticText.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file makes up entry titles and content of realistic lengths.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dataset;
+
+import java.util.SplittableRandom;
+
+//***************************************************************************************
+
+//Content is a slice of one pre-built corpus of journal-like sentences, so each entry costs a
+//substring rather than a string built word by word. Lengths are log-normal around a median
+//of a short paragraph with a long tail, the shape free-text fields usually have.
+public class SyntheticText
+{
+    public static final int MIN_CONTENT_LENGTH = 20;
+    public static final int MAX_CONTENT_LENGTH = 4000;
+
+    private static final double MEDIAN_CONTENT_LENGTH = 280;
+    private static final double CONTENT_LENGTH_SIGMA = 0.8;
+    private static final int CORPUS_LENGTH = 1 << 20;
+
+    private static final String[] SUBJECTS = {
+            "my family", "an old friend", "the morning sun", "a quiet walk", "my health", "a good book",
+            "the neighbours", "a warm meal", "my team at work", "the rain", "a long phone call", "the dog"
+    };
+
+    private static final String[] SENTENCES = {
+            "Today I am grateful for %s.",
+            "I noticed %s and it made the whole day lighter.",
+            "It is easy to forget how much %s means to me.",
+            "Spent the evening thinking about %s and felt calm.",
+            "Small thing, but %s really helped this week.",
+            "Thankful that %s was there when I needed it."
+    };
+
+    private final String corpus;
+
+    public SyntheticText(long seed)
+    {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder text = new StringBuilder(CORPUS_LENGTH + MAX_CONTENT_LENGTH * 2);
+
+        while (text.length() < CORPUS_LENGTH + MAX_CONTENT_LENGTH)
+        {
+            text.append(String.format(SENTENCES[random.nextInt(SENTENCES.length)], SUBJECTS[random.nextInt(SUBJECTS.length)]))
+                    .append(' ');
+        }
+        this.corpus = text.toString();
+    }
+
+    public String title(SplittableRandom random)
+    {
+        String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+        return Character.toUpperCase(subject.charAt(0)) + subject.substring(1);
+    }
+
+    public String content(SplittableRandom random)
+    {
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        int length = (int) Math.clamp(MEDIAN_CONTENT_LENGTH * Math.exp(CONTENT_LENGTH_SIGMA * gaussian),
+                MIN_CONTENT_LENGTH, MAX_CONTENT_LENGTH);
+
+        int start = random.nextInt(CORPUS_LENGTH);
+        return corpus.substring(start, start + length).trim();
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,123 @@
+//***************************************************************************************
+//
+//     Filename: Baseline.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file compares a load test run with the stored baseline.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+//***************************************************************************************
+
+//The baseline holds the offered rate, the completed throughput and each operation's p50 and
+//p90. A run regresses when throughput falls, or a percentile rises, by more than the
+//tolerance, or when more than 1% of requests fail. The p99s are printed but not compared: the
+//rarer operations see a few hundred requests a minute, so their p99 is close to the single
+//slowest one and swings too much between runs. Latencies also get a fixed 2 ms of slack, so
+//sub-millisecond baselines do not fail on scheduler noise. Baselines are only comparable at
+//the same offered rate on the same kind of host; record one with -Ploadtest.update-baseline=true.
+public final class Baseline
+{
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final double LATENCY_SLACK_MS = 2;
+    private static final double[] PERCENTILES = {50, 90};
+
+    private Baseline()
+    {
+    }
+
+    public static List<String> regressions(LoadTestReport report, Path file, double tolerance) throws IOException
+    {
+        List<String> regressions = new ArrayList<>();
+
+        if (report.errorRate() > MAX_ERROR_RATE)
+        {
+            regressions.add(String.format(Locale.ROOT, "error rate %.2f%% is over %.0f%%", report.errorRate() * 100, MAX_ERROR_RATE * 100));
+        }
+
+        if ( ! Files.exists(file))
+        {
+            return regressions;
+        }
+
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(file))
+        {
+            baseline.load(reader);
+        }
+
+        double baselineRate = Double.parseDouble(baseline.getProperty("rate", "0"));
+        if (baselineRate != report.offeredRate())
+        {
+            regressions.add(String.format(Locale.ROOT, "baseline was recorded at %.1f req/s, not %.1f; rerun at that rate or update it",
+                    baselineRate, report.offeredRate()));
+            return regressions;
+        }
+
+        double minThroughput = Double.parseDouble(baseline.getProperty("throughput.rps")) * (1 - tolerance);
+        if (report.throughput() < minThroughput)
+        {
+            regressions.add(String.format(Locale.ROOT, "throughput %.1f req/s is under %.1f", report.throughput(), minThroughput));
+        }
+
+        for (Operation operation : Operation.values())
+        {
+            for (double percentile : PERCENTILES)
+            {
+                String key = key(operation, percentile);
+                if (baseline.getProperty(key) == null)
+                {
+                    continue;
+                }
+
+                double limit = Double.parseDouble(baseline.getProperty(key)) * (1 + tolerance) + LATENCY_SLACK_MS;
+                double latency = report.percentileMs(operation, percentile);
+                if (latency > limit)
+                {
+                    regressions.add(String.format(Locale.ROOT, "%s p%.0f %.2f ms is over %.2f ms",
+                            operation.key(), percentile, latency, limit));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    public static void write(LoadTestReport report, Path file) throws IOException
+    {
+        Properties baseline = new Properties();
+        baseline.setProperty("rate", String.valueOf(report.offeredRate()));
+        baseline.setProperty("throughput.rps", String.format(Locale.ROOT, "%.1f", report.throughput()));
+        for (Operation operation : Operation.values())
+        {
+            for (double percentile : PERCENTILES)
+            {
+                baseline.setProperty(key(operation, percentile),
+                        String.format(Locale.ROOT, "%.2f", report.percentileMs(operation, percentile)));
+            }
+        }
+
+        try (Writer writer = Files.newBufferedWriter(file))
+        {
+            baseline.store(writer, "./gradlew loadTest results; compared by Baseline.java");
+        }
+    }
+
+    private static String key(Operation operation, double percentile)
+    {
+        return String.format(Locale.ROOT, "%s.p%.0f.ms", operation.key(), percentile);
+    }
+}
+
+//***************************************************************************************
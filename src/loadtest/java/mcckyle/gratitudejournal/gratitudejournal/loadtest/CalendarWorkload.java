@@ -0,0 +1,167 @@
+//***************************************************************************************
+//
+//     Filename: CalendarWorkload.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file sends the load test's requests to the running application.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+//***************************************************************************************
+
+//Each call is one HTTP request, made the way the web client makes it, and throws when the
+//response is not what a healthy server returns. The generator counts a throw as an error.
+public class CalendarWorkload
+{
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final List<SimulatedUser> users;
+
+    public CalendarWorkload(URI baseUri, List<SimulatedUser> users)
+    {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUri = baseUri;
+        this.users = users;
+    }
+
+    public int userCount()
+    {
+        return users.size();
+    }
+
+    public void signInAll() throws IOException, InterruptedException
+    {
+        for (SimulatedUser user : users)
+        {
+            signIn(user);
+        }
+    }
+
+    //variant picks the entry date and title, so the same seed gives the same requests.
+    public void perform(Operation operation, int userIndex, long variant) throws IOException, InterruptedException
+    {
+        SimulatedUser user = users.get(userIndex);
+
+        switch (operation)
+        {
+            case SIGNIN -> signIn(user);
+            case LIST -> list(user);
+            case CREATE -> create(user, variant);
+            case UPDATE -> update(user, variant);
+            case DELETE -> delete(user, variant);
+        }
+    }
+
+    private void signIn(SimulatedUser user) throws IOException, InterruptedException
+    {
+        String body = objectMapper.writeValueAsString(Map.of("username", user.getUsername(), "password", LoadTestSeeder.PASSWORD));
+        HttpResponse<String> response = send(request("/api/auth/signin").POST(HttpRequest.BodyPublishers.ofString(body)),
+                HttpResponse.BodyHandlers.ofString(), 200);
+        user.setAccessToken(objectMapper.readTree(response.body()).get("accessToken").asText());
+    }
+
+    private void list(SimulatedUser user) throws IOException, InterruptedException
+    {
+        send(authorized(user, "/api/calendar").header("Accept-Encoding", "gzip").GET(), HttpResponse.BodyHandlers.discarding(), 200, 204);
+    }
+
+    private void create(SimulatedUser user, long variant) throws IOException, InterruptedException
+    {
+        HttpResponse<String> response = send(authorized(user, "/api/calendar")
+                .POST(HttpRequest.BodyPublishers.ofString(entryJson(variant))), HttpResponse.BodyHandlers.ofString(), 201);
+
+        JsonNode created = objectMapper.readTree(response.body());
+        user.addEntry(created.get("id").asInt());
+    }
+
+    private void update(SimulatedUser user, long variant) throws IOException, InterruptedException
+    {
+        Integer id = user.takeForUpdate();
+        if (id == null)
+        {
+            create(user, variant);
+            return;
+        }
+
+        try
+        {
+            send(authorized(user, "/api/calendar/" + id).PUT(HttpRequest.BodyPublishers.ofString(entryJson(variant))),
+                    HttpResponse.BodyHandlers.discarding(), 200);
+        }
+        finally
+        {
+            user.addEntry(id);
+        }
+    }
+
+    private void delete(SimulatedUser user, long variant) throws IOException, InterruptedException
+    {
+        Integer id = user.takeForDelete();
+        if (id == null)
+        {
+            create(user, variant);
+            return;
+        }
+
+        send(authorized(user, "/api/calendar/" + id).DELETE(), HttpResponse.BodyHandlers.discarding(), 204);
+    }
+
+    private String entryJson(long variant) throws IOException
+    {
+        LocalDate date = LocalDate.now().minusDays(Math.floorMod(variant, 365));
+        return objectMapper.writeValueAsString(Map.of(
+                "title", "Load test " + Long.toHexString(variant),
+                "content", "Grateful for a steady server.",
+                "entryDate", date.toString()));
+    }
+
+    private HttpRequest.Builder request(String path)
+    {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.Builder authorized(SimulatedUser user, String path)
+    {
+        return request(path).header("Authorization", "Bearer " + user.getAccessToken());
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest.Builder request, HttpResponse.BodyHandler<T> bodyHandler,
+                                     int... expectedStatuses) throws IOException, InterruptedException
+    {
+        HttpRequest built = request.build();
+        HttpResponse<T> response = httpClient.send(built, bodyHandler);
+
+        for (int expected : expectedStatuses)
+        {
+            if (response.statusCode() == expected)
+            {
+                return response;
+            }
+        }
+        throw new IOException(built.method() + " " + built.uri().getPath() + " returned " + response.statusCode());
+    }
+}
+
+//***************************************************************************************
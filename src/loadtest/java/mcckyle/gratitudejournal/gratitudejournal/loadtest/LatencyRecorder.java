@@ -0,0 +1,79 @@
+//***************************************************************************************
+//
+//     Filename: LatencyRecorder.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file collects one operation's latencies and failures.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import java.util.Arrays;
+
+//***************************************************************************************
+
+//Keeps every sample, so percentiles are exact; a minute at a few hundred requests a second
+//is well under a megabyte.
+public class LatencyRecorder
+{
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+    private int dropped;
+
+    public synchronized void record(long nanos)
+    {
+        if (count == samples.length)
+        {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public synchronized void recordError()
+    {
+        errors++;
+    }
+
+    //Not sent at all because too many requests were already waiting on the server.
+    public synchronized void recordDropped()
+    {
+        dropped++;
+    }
+
+    public synchronized int count()
+    {
+        return count;
+    }
+
+    public synchronized int errors()
+    {
+        return errors;
+    }
+
+    public synchronized int dropped()
+    {
+        return dropped;
+    }
+
+    public synchronized long[] sortedSamples()
+    {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    //Nearest-rank percentile of sorted samples, in milliseconds.
+    public static double percentileMs(long[] sorted, double percentile)
+    {
+        if (sorted.length == 0)
+        {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)] / 1_000_000.0;
+    }
+}
+
+//***************************************************************************************
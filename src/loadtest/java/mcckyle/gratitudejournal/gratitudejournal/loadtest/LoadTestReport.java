@@ -0,0 +1,86 @@
+//***************************************************************************************
+//
+//     Filename: LoadTestReport.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file summarizes a load test run as throughput and latency percentiles.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+//***************************************************************************************
+
+public class LoadTestReport
+{
+    private final Map<Operation, LatencyRecorder> recorders;
+    private final double offeredRate;
+    private final int durationSeconds;
+
+    public LoadTestReport(Map<Operation, LatencyRecorder> recorders, double offeredRate, int durationSeconds)
+    {
+        this.recorders = recorders;
+        this.offeredRate = offeredRate;
+        this.durationSeconds = durationSeconds;
+    }
+
+    public double offeredRate()
+    {
+        return offeredRate;
+    }
+
+    //Successful requests per second over the measured window.
+    public double throughput()
+    {
+        int completed = 0;
+        for (LatencyRecorder recorder : recorders.values())
+        {
+            completed += recorder.count();
+        }
+        return (double) completed / durationSeconds;
+    }
+
+    //Failed and dropped requests as a share of everything scheduled in the measured window.
+    public double errorRate()
+    {
+        int failed = 0;
+        int total = 0;
+        for (LatencyRecorder recorder : recorders.values())
+        {
+            failed += recorder.errors() + recorder.dropped();
+            total += recorder.count() + recorder.errors() + recorder.dropped();
+        }
+        return (total == 0) ? 0 : (double) failed / total;
+    }
+
+    public double percentileMs(Operation operation, double percentile)
+    {
+        return LatencyRecorder.percentileMs(recorders.get(operation).sortedSamples(), percentile);
+    }
+
+    public void print(PrintStream out)
+    {
+        out.printf("%n%-8s %8s %7s %8s %9s %9s %9s %9s %9s%n",
+                "op", "ok", "errors", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet())
+        {
+            LatencyRecorder recorder = entry.getValue();
+            long[] sorted = recorder.sortedSamples();
+
+            out.printf("%-8s %8d %7d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey().key(),
+                    recorder.count(), recorder.errors(), recorder.dropped(),
+                    LatencyRecorder.percentileMs(sorted, 50), LatencyRecorder.percentileMs(sorted, 90),
+                    LatencyRecorder.percentileMs(sorted, 99), LatencyRecorder.percentileMs(sorted, 99.9),
+                    LatencyRecorder.percentileMs(sorted, 100));
+        }
+
+        out.printf("%nOffered %.1f req/s, completed %.1f req/s, error rate %.2f%%%n%n",
+                offeredRate, throughput(), errorRate() * 100);
+    }
+}
+
+//***************************************************************************************
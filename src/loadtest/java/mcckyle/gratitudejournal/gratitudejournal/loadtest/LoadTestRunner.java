@@ -0,0 +1,72 @@
+//***************************************************************************************
+//
+//     Filename: LoadTestRunner.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file boots the application on H2, seeds it and runs the load test.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import mcckyle.gratitudejournal.gratitudejournal.GratitudeJournalApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.net.URI;
+import java.util.List;
+
+//***************************************************************************************
+
+//Entry point for ./gradlew loadTest. The application runs in this JVM with the loadtest
+//profile (application-loadtest.properties) on a random local port, so the whole run needs
+//no network and no database server. Exits 1 when the run regresses past the baseline.
+public class LoadTestRunner
+{
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    public static void main(String[] args) throws Exception
+    {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        SpringApplication application = new SpringApplication(GratitudeJournalApplication.class);
+        application.setAdditionalProfiles("loadtest");
+
+        List<String> regressions;
+        try (ConfigurableApplicationContext context = application.run("--server.port=0"))
+        {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            logger.info("Seeding {} users with {} entries each", settings.users(), settings.entriesPerUser());
+            List<SimulatedUser> users = new LoadTestSeeder(context).seed(settings.users(), settings.entriesPerUser(), settings.seed());
+
+            CalendarWorkload workload = new CalendarWorkload(URI.create("http://localhost:" + port), users);
+            workload.signInAll();
+
+            LoadTestReport report = new OpenLoadGenerator(settings).run(workload);
+            report.print(System.out);
+
+            if (settings.updateBaseline())
+            {
+                Baseline.write(report, settings.baseline());
+                logger.info("Baseline written to {}", settings.baseline());
+                regressions = List.of();
+            }
+            else
+            {
+                regressions = Baseline.regressions(report, settings.baseline(), settings.tolerance());
+            }
+        }
+
+        if ( ! regressions.isEmpty())
+        {
+            regressions.forEach(regression -> System.out.println("REGRESSION: " + regression));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+}
+
+//***************************************************************************************
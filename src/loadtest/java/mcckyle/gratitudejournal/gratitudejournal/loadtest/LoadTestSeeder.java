@@ -0,0 +1,96 @@
+//***************************************************************************************
+//
+//     Filename: LoadTestSeeder.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file fills the in-memory database with synthetic users and entries.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import mcckyle.gratitudejournal.gratitudejournal.repository.UserRepository;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarImportService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarService;
+import mcckyle.gratitudejournal.gratitudejournal.service.RoleRegistry;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+//***************************************************************************************
+
+//Users share one password hash, so seeding does not pay for a bcrypt per user. Entries go
+//through the import service, which batches the inserts and keeps the writing stats right.
+public class LoadTestSeeder
+{
+    public static final String PASSWORD = "load-test-password";
+
+    private static final String[] GRATITUDES = {
+            "A long walk in the morning sun.",
+            "Coffee with an old friend who made me laugh.",
+            "Finishing a hard piece of work and being proud of it.",
+            "A quiet evening reading by the window.",
+            "My family calling just to say hello."
+    };
+
+    private final UserRepository userRepository;
+    private final RoleRegistry roleRegistry;
+    private final PasswordEncoder passwordEncoder;
+    private final CalendarImportService calendarImportService;
+    private final CalendarService calendarService;
+
+    public LoadTestSeeder(ApplicationContext context)
+    {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.roleRegistry = context.getBean(RoleRegistry.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.calendarImportService = context.getBean(CalendarImportService.class);
+        this.calendarService = context.getBean(CalendarService.class);
+    }
+
+    public List<SimulatedUser> seed(int users, int entriesPerUser, long seed) throws IOException
+    {
+        String hash = passwordEncoder.encode(PASSWORD);
+        SplittableRandom random = new SplittableRandom(seed);
+        List<SimulatedUser> seeded = new ArrayList<>(users);
+
+        for (int i = 0; i < users; i++)
+        {
+            String username = "loadtest-user-" + i;
+            User user = new User(username, username + "@example.com", hash, Set.of(roleRegistry.get(RoleRegistry.ROLE_USER)));
+            Integer userId = userRepository.save(user).getId();
+
+            calendarImportService.importEntries(userId, new ByteArrayInputStream(entries(entriesPerUser, random)));
+
+            List<Integer> ids = calendarService.getEntriesByUserId(userId).stream().map(CalendarEntry::getId).toList();
+            seeded.add(new SimulatedUser(username, ids));
+        }
+        return seeded;
+    }
+
+    //Newline-delimited JSON, one entry a day going back from today.
+    private static byte[] entries(int count, SplittableRandom random)
+    {
+        StringBuilder ndjson = new StringBuilder();
+        LocalDate date = LocalDate.now();
+
+        for (int i = 0; i < count; i++)
+        {
+            ndjson.append("{\"title\":\"Day ").append(i)
+                    .append("\",\"content\":\"").append(GRATITUDES[random.nextInt(GRATITUDES.length)])
+                    .append("\",\"entryDate\":\"").append(date.minusDays(i)).append("\"}\n");
+        }
+        return ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,43 @@
+//***************************************************************************************
+//
+//     Filename: LoadTestSettings.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file holds the load test's knobs, read from system properties.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import java.nio.file.Path;
+
+//***************************************************************************************
+
+//Each setting is a loadtest.* system property; the loadTest Gradle task passes -Ploadtest.*
+//project properties through. The defaults fit a single small box.
+public record LoadTestSettings(double ratePerSecond, int warmupSeconds, int durationSeconds,
+                               int users, int entriesPerUser, int maxInFlight, long seed,
+                               double tolerance, Path baseline, boolean updateBaseline)
+{
+    public static LoadTestSettings fromSystemProperties()
+    {
+        return new LoadTestSettings(
+                Double.parseDouble(property("rate", "30")),
+                Integer.parseInt(property("warmup-seconds", "15")),
+                Integer.parseInt(property("duration-seconds", "60")),
+                Integer.parseInt(property("users", "50")),
+                Integer.parseInt(property("entries-per-user", "200")),
+                Integer.parseInt(property("max-in-flight", "1000")),
+                Long.parseLong(property("seed", "42")),
+                Double.parseDouble(property("tolerance", "0.5")),
+                Path.of(property("baseline", "src/loadtest/baseline.properties")),
+                Boolean.parseBoolean(property("update-baseline", "false")));
+    }
+
+    private static String property(String name, String defaultValue)
+    {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
+
+//***************************************************************************************
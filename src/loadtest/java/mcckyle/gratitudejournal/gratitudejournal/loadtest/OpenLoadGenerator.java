@@ -0,0 +1,124 @@
+//***************************************************************************************
+//
+//     Filename: OpenLoadGenerator.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file sends requests at a fixed arrival rate, whatever the server does.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+//***************************************************************************************
+
+//Open model: arrivals are a Poisson process at the configured rate, and each request starts
+//on its own virtual thread at its scheduled time, however many earlier ones are still open.
+//A slow server therefore builds a queue instead of slowing the clients down. Latency runs
+//from the scheduled start rather than the actual send, so time spent behind a stalled
+//dispatcher counts too (no coordinated omission). Requests scheduled during the warm-up are
+//sent but not recorded. Past maxInFlight open requests, new arrivals are dropped and counted.
+public class OpenLoadGenerator
+{
+    private static final Logger logger = LoggerFactory.getLogger(OpenLoadGenerator.class);
+
+    private final LoadTestSettings settings;
+
+    public OpenLoadGenerator(LoadTestSettings settings)
+    {
+        this.settings = settings;
+    }
+
+    public LoadTestReport run(CalendarWorkload workload) throws InterruptedException
+    {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values())
+        {
+            recorders.put(operation, new LatencyRecorder());
+        }
+
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        AtomicInteger inFlight = new AtomicInteger();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+        long scheduled = start;
+
+        logger.info("Offering {} requests/s: {}s warm-up, then {}s measured", settings.ratePerSecond(),
+                settings.warmupSeconds(), settings.durationSeconds());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+        {
+            while (true)
+            {
+                scheduled += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos); //Exponential gaps.
+                if (scheduled >= end)
+                {
+                    break;
+                }
+
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0)
+                {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = Operation.pick(random);
+                int userIndex = random.nextInt(workload.userCount());
+                long variant = random.nextLong();
+                LatencyRecorder recorder = (scheduled >= measureFrom) ? recorders.get(operation) : null;
+
+                if (inFlight.incrementAndGet() > settings.maxInFlight())
+                {
+                    inFlight.decrementAndGet();
+                    if (recorder != null)
+                    {
+                        recorder.recordDropped();
+                    }
+                    continue;
+                }
+
+                long startedAt = scheduled;
+                executor.execute(() ->
+                {
+                    try
+                    {
+                        workload.perform(operation, userIndex, variant);
+                        if (recorder != null)
+                        {
+                            recorder.record(System.nanoTime() - startedAt);
+                        }
+                    }
+                    catch (Exception e)
+                    {
+                        logger.debug("{} failed: {}", operation.key(), e.getMessage());
+                        if (recorder != null)
+                        {
+                            recorder.recordError();
+                        }
+                    }
+                    finally
+                    {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        } //Waits for the open requests to finish.
+
+        return new LoadTestReport(recorders, settings.ratePerSecond(), settings.durationSeconds());
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,57 @@
+//***************************************************************************************
+//
+//     Filename: Operation.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file lists the requests in the load test mix and their weights.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import java.util.SplittableRandom;
+
+//***************************************************************************************
+
+//Mostly reads, as in the app: clients list on every calendar view and write a few entries a
+//day. Sign-ins are rare because access tokens last fifteen minutes, and each costs a bcrypt.
+public enum Operation
+{
+    SIGNIN("signin", 2),
+    LIST("list", 50),
+    CREATE("create", 20),
+    UPDATE("update", 18),
+    DELETE("delete", 10);
+
+    private static final int TOTAL_WEIGHT = 100;
+
+    private final String key;
+    private final int weight;
+
+    Operation(String key, int weight)
+    {
+        this.key = key;
+        this.weight = weight;
+    }
+
+    public String key()
+    {
+        return key;
+    }
+
+    public static Operation pick(SplittableRandom random)
+    {
+        int roll = random.nextInt(TOTAL_WEIGHT);
+        for (Operation operation : values())
+        {
+            roll -= operation.weight;
+            if (roll < 0)
+            {
+                return operation;
+            }
+        }
+        return LIST;
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,63 @@
+//***************************************************************************************
+//
+//     Filename: SimulatedUser.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file holds one seeded user's token and entry ids during the run.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.loadtest;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+//***************************************************************************************
+
+//Updates take an id from the front and put it back at the end; deletes take one from the
+//end for good. An id is out of the deque while a request uses it, so no two requests race
+//on the same entry and every 404 in the results is a real failure.
+public class SimulatedUser
+{
+    private final String username;
+    private final ConcurrentLinkedDeque<Integer> entryIds;
+    private volatile String accessToken;
+
+    public SimulatedUser(String username, Collection<Integer> entryIds)
+    {
+        this.username = username;
+        this.entryIds = new ConcurrentLinkedDeque<>(entryIds);
+    }
+
+    public String getUsername()
+    {
+        return username;
+    }
+
+    public String getAccessToken()
+    {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken)
+    {
+        this.accessToken = accessToken;
+    }
+
+    public Integer takeForUpdate()
+    {
+        return entryIds.pollFirst();
+    }
+
+    public Integer takeForDelete()
+    {
+        return entryIds.pollLast();
+    }
+
+    public void addEntry(Integer id)
+    {
+        entryIds.addLast(id);
+    }
+}
+
+//***************************************************************************************
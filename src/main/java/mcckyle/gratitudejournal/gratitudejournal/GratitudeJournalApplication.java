@@ -2,8 +2,10 @@ package mcckyle.gratitudejournal.gratitudejournal;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class GratitudeJournalApplication {
 
 	public static void main(String[] args) {
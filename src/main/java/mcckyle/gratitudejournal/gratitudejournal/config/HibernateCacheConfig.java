@@ -0,0 +1,77 @@
+//***************************************************************************************
+//
+//     Filename: HibernateCacheConfig.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file configures the Hibernate second-level cache.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+//***************************************************************************************
+
+//Users, roles and each user's role links are cached by Hibernate in bounded Caffeine regions,
+//so loading a user by id, or by username through its natural id, skips the join over
+//user_roles and roles. Writes through Hibernate keep the regions current on this instance;
+//the TTL bounds how long another instance's change can go unseen. Hit and miss counts per
+//region appear under /actuator/metrics/hibernate.second.level.cache.requests and
+//hibernate.cache.natural.id.requests.
+@Configuration
+public class HibernateCacheConfig
+{
+    public static final String USERS_REGION = "users";
+    public static final String USER_ROLES_REGION = "users.roles";
+    public static final String USERS_BY_USERNAME_REGION = "users-by-username";
+    public static final String ROLES_REGION = "roles";
+
+    private static final List<String> REGIONS = List.of(USERS_REGION, USER_ROLES_REGION, USERS_BY_USERNAME_REGION, ROLES_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.jpa.second-level-cache.max-size:10000}") long maxSize,
+                                              @Value("${app.jpa.second-level-cache.ttl-seconds:300}") long ttlSeconds)
+    {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        CaffeineConfiguration<Object, Object> region = new CaffeineConfiguration<>();
+        region.setMaximumSize(OptionalLong.of(maxSize));
+        region.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+
+        for (String name : REGIONS)
+        {
+            if (cacheManager.getCache(name) == null)
+            {
+                cacheManager.createCache(name, region);
+            }
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager)
+    {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail"); //Every region is created above.
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,40 @@
+//***************************************************************************************
+//
+//     Filename: MetricsConfig.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file enables @Timed on Spring beans and counts SQL statements.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+//***************************************************************************************
+
+//Every HTTP handler is already timed as http.server.requests, tagged by uri, method and status.
+//@Timed covers the layers underneath; each timer is tagged with its class and method.
+@Configuration
+public class MetricsConfig
+{
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry)
+    {
+        return new TimedAspect(meterRegistry);
+    }
+
+    //Feeds the per-request statement budget (QueryBudgetFilter).
+    @Bean
+    public HibernatePropertiesCustomizer statementCounter()
+    {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,84 @@
+//***************************************************************************************
+//
+//     Filename: QueryBudgetFilter.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file checks each request against a budget of SQL statements.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+
+//***************************************************************************************
+
+//Runs outside the security filters, so token and user lookups count toward the request too.
+//The count per request is recorded as db.statements.per.request tagged by uri. Going over the
+//budget logs a warning, or with mode=fail throws, which makes an N+1 regression fail its test.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter
+{
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final boolean failOverBudget;
+
+    @Autowired
+    public QueryBudgetFilter(MeterRegistry meterRegistry,
+                             @Value("${app.jpa.query-budget.max-statements:20}") int maxStatements,
+                             @Value("${app.jpa.query-budget.mode:log}") String mode)
+    {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.failOverBudget = "fail".equalsIgnoreCase(mode);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException
+    {
+        QueryCounter.reset();
+        filterChain.doFilter(request, response);
+        int statements = QueryCounter.count();
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = (pattern != null) ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("db.statements.per.request")
+                .description("SQL statements Hibernate ran for one request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > maxStatements)
+        {
+            String message = request.getMethod() + " " + uri + " ran " + statements
+                    + " SQL statements; the budget is " + maxStatements + ".";
+            if (failOverBudget)
+            {
+                throw new IllegalStateException(message);
+            }
+            logger.warn(message);
+        }
+    }
+}
+
+//***************************************************************************************
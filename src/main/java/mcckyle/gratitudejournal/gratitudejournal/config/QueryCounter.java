@@ -0,0 +1,41 @@
+//***************************************************************************************
+//
+//     Filename: QueryCounter.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file counts the SQL statements Hibernate runs on each thread.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+//***************************************************************************************
+
+//Hibernate passes every statement it prepares through here, so the count covers queries,
+//inserts, updates and lazy or eager fetches alike (a JDBC batch counts once). Statements run
+//through JdbcTemplate, or on another thread, are not seen.
+public final class QueryCounter implements StatementInspector
+{
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql)
+    {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset()
+    {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count()
+    {
+        return COUNT.get()[0];
+    }
+}
+
+//***************************************************************************************
@@ -14,26 +14,35 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import mcckyle.gratitudejournal.gratitudejournal.dto.UserAuthenticationDTO;
 import mcckyle.gratitudejournal.gratitudejournal.dto.UserRegistrationDTO;
+import mcckyle.gratitudejournal.gratitudejournal.exception.PasswordHashingBusyException;
 import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import mcckyle.gratitudejournal.gratitudejournal.security.LoginThrottle;
 import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsImpl;
+import mcckyle.gratitudejournal.gratitudejournal.security.TokenEpochService;
+import mcckyle.gratitudejournal.gratitudejournal.security.TokenIntrospectionService;
 import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsServiceImpl;
-import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtUtils;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.TokenDenylist;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
 import mcckyle.gratitudejournal.gratitudejournal.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import jakarta.validation.Valid;
@@ -48,7 +57,7 @@ public class AuthenticationController
     private AuthenticationManager authenticationManager;
 
     @Autowired
-    private JwtUtils jwtUtils;
+    private JwtTokenService jwtTokenService;
 
     @Autowired
     private UserService userService;
@@ -56,6 +65,21 @@ public class AuthenticationController
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private TokenEpochService tokenEpochService;
+
+    @Autowired
+    private TokenDenylist tokenDenylist;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private TokenIntrospectionService tokenIntrospectionService;
+
+    @Value("${app.security.introspection.max-tokens:100}")
+    private int maxIntrospectionTokens;
+
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@Valid @RequestBody UserRegistrationDTO userRegistrationDTO, HttpServletResponse response)
     {
@@ -65,27 +89,19 @@ public class AuthenticationController
             User registeredUser = userService.registerUser(userRegistrationDTO);  // Pass DTO instead of RegisterRequest
 
             // Generate the access token immediately.
-            String accessToken = jwtUtils.generateJwtToken(
+            String accessToken = jwtTokenService.generateJwtToken(
                     registeredUser.getId(),
                     registeredUser.getUsername(),
                     registeredUser.getRoles().stream()
                             .map(role -> new SimpleGrantedAuthority(role.getName()))
-                            .collect(Collectors.toSet())
+                            .collect(Collectors.toSet()),
+                    registeredUser.getTokenEpoch()
             );
 
-            String refreshToken = jwtUtils.generateRefreshToken(registeredUser.getId());
+            String refreshToken = jwtTokenService.generateRefreshToken(registeredUser.getId(), registeredUser.getTokenEpoch());
 
             // Create and return the response.
-            ResponseCookie cookie = ResponseCookie.from("refresh_token", refreshToken)
-                    .httpOnly(true)
-                    .secure(false) //turn off for localhost.
-                    .path("/")
-                    .maxAge(7 * 24 * 60 * 60) //One week.
-                    .sameSite("Lax") //Change from "Strict" for localhost.
-                    .build();
-
-            response.addHeader("Set-Cookie", cookie.toString());
-            response.addHeader("Access-Control-Expose-Headers", "Set-Cookie");
+            addRefreshCookie(response, refreshToken);
 
             return ResponseEntity.ok(Map.of(
                     "accessToken", accessToken,
@@ -93,6 +109,10 @@ public class AuthenticationController
                     "email", registeredUser.getEmail()
             ));
         }
+        catch (PasswordHashingBusyException e)
+        {
+            throw e; // 503 with Retry-After, not a bad request.
+        }
         catch (RuntimeException e)
         {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -100,39 +120,46 @@ public class AuthenticationController
     }
 
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticateUser(@RequestBody UserAuthenticationDTO authenticationDTO, HttpServletResponse response)
+    public ResponseEntity<?> authenticateUser(@RequestBody UserAuthenticationDTO authenticationDTO,
+                                              HttpServletRequest request, HttpServletResponse response)
     {
+        // Throttled attempts are turned away (429) before any password hashing.
+        loginThrottle.checkAllowed(authenticationDTO.getUsername(), request.getRemoteAddr());
+
         // Authenticate the user using the provided credentials from DTO.
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        authenticationDTO.getUsername(),
-                        authenticationDTO.getPassword()
-                )
-        );
+        // A hash with out-of-date parameters is redone and saved here (UserDetailsPasswordService).
+        Authentication authentication;
+        try
+        {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            authenticationDTO.getUsername(),
+                            authenticationDTO.getPassword()
+                    )
+            );
+        }
+        catch (BadCredentialsException e)
+        {
+            loginThrottle.recordFailure(authenticationDTO.getUsername());
+            throw e;
+        }
+        loginThrottle.recordSuccess(authenticationDTO.getUsername());
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
 
         // Generate the JWT token.
-        String accessToken = jwtUtils.generateJwtToken(
+        String accessToken = jwtTokenService.generateJwtToken(
                 userDetails.getId(),
                 userDetails.getUsername(),
-                userDetails.getAuthorities()
+                userDetails.getAuthorities(),
+                userDetails.getTokenEpoch()
         );
 
-        String refreshToken = jwtUtils.generateRefreshToken(userDetails.getId());
+        String refreshToken = jwtTokenService.generateRefreshToken(userDetails.getId(), userDetails.getTokenEpoch());
 
         // Create and return the response.
-        ResponseCookie cookie = ResponseCookie.from("refresh_token", refreshToken)
-                .httpOnly(true)
-                .secure(false) //turn off for localhost.
-                .path("/")
-                .maxAge(7 * 24 * 60 * 60) //One week.
-                .sameSite("Lax") //Change from "Strict" for localhost.
-                .build();
-
-        response.addHeader("Set-Cookie", cookie.toString());
-        response.addHeader("Access-Control-Expose-Headers", "Set-Cookie");
+        addRefreshCookie(response, refreshToken);
 
         return ResponseEntity.ok(Map.of(
                 "accessToken", accessToken,
@@ -142,8 +169,16 @@ public class AuthenticationController
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletResponse response)
+    public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response)
     {
+        // Revoke both tokens server-side so neither keeps working until it expires.
+        String authHeader = request.getHeader("Authorization");
+        if ( (authHeader != null) && (authHeader.startsWith("Bearer ")) )
+        {
+            revoke(authHeader.substring(7));
+        }
+        revoke(refreshTokenCookie(request));
+
         // Create and return the response.
         ResponseCookie clearCookie = ResponseCookie.from("refresh_token", "")
                 .httpOnly(true)
@@ -172,25 +207,20 @@ public class AuthenticationController
 
             String token = authHeader.substring(7);
 
-            if ( ! jwtUtils.validateJwtToken(token))
+            Optional<VerifiedToken> verified = jwtTokenService.verify(token);
+
+            if (verified.isEmpty())
             {
                 return ResponseEntity.status(401).body(Map.of("valid", false, "error", "Invalid or expired token."));
             }
 
             // Extract userId from valid JWT instead of the username.
-            Integer userId = jwtUtils.getUserIdFromJwtToken(token);
+            Integer userId = verified.get().userId();
 
-            if (userId == null)
+            // A deleted user has no current epoch, so their tokens fail here without a user lookup.
+            if ( (tokenDenylist.isRevoked(verified.get().jti())) || ( ! tokenEpochService.isCurrent(userId, verified.get().tokenEpoch())) )
             {
-                return ResponseEntity.status(401)
-                        .body(Map.of("valid", false, "error", "Invalid token: userId missing."));
-            }
-
-            // Verify user still exists in DB.
-            boolean userExists = userService.findById(userId).isPresent();
-            if ( ! userExists)
-            {
-                return ResponseEntity.status(404).body(Map.of("valid", false, "error", "User not found."));
+                return ResponseEntity.status(401).body(Map.of("valid", false, "error", "Token has been revoked."));
             }
 
             return ResponseEntity.ok(Map.of("valid", true, "userId", userId));
@@ -201,34 +231,51 @@ public class AuthenticationController
         }
     }
 
+    //Batch check for gateways and sidecars: {"tokens": [...]} in, one result per token in order.
+    @PostMapping("/introspect")
+    public ResponseEntity<?> introspectTokens(@RequestBody Map<String, List<String>> request)
+    {
+        List<String> tokens = request.get("tokens");
+
+        if ( (tokens == null) || (tokens.isEmpty()) || (tokens.size() > maxIntrospectionTokens) )
+        {
+            return ResponseEntity.badRequest().body(Map.of("error",
+                    "Expected between 1 and " + maxIntrospectionTokens + " tokens."));
+        }
+
+        List<Map<String, Object>> results = tokens.stream()
+                .map(tokenIntrospectionService::describe)
+                .toList();
+
+        return ResponseEntity.ok(Map.of("results", results));
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<?> refreshToken(HttpServletRequest request, HttpServletResponse response)
     {
-        Cookie[] cookies = request.getCookies();
+        String refreshToken = refreshTokenCookie(request);
 
-        if (cookies == null)
+        Optional<VerifiedToken> verified = jwtTokenService.verify(refreshToken);
+
+        if ( (verified.isEmpty()) || (tokenDenylist.isRevoked(verified.get().jti())) )
         {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        String refreshToken = Arrays.stream(cookies)
-                .filter(c -> c.getName().equals("refresh_token"))
-                .map(Cookie::getValue)
-                .findFirst()
-                .orElse(null);
+        Integer userId = verified.get().userId();
+        UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserById(userId);
 
-        if ( (refreshToken == null) || ( ! jwtUtils.validateJwtToken(refreshToken)) )
+        // Refresh tokens from before a password change are revoked along with access tokens.
+        if (verified.get().tokenEpoch() != userDetails.getTokenEpoch())
         {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        Integer userId = jwtUtils.getUserIdFromJwtToken(refreshToken);
-        UserDetails userDetails = userDetailsService.loadUserById(userId);
-
-        String newAccessToken = jwtUtils.generateJwtToken(
+        String newAccessToken = jwtTokenService.generateJwtToken(
                 userId,
                 userDetails.getUsername(),
-                userDetails.getAuthorities()
+                userDetails.getAuthorities(),
+                userDetails.getTokenEpoch()
         );
 
         return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
@@ -244,18 +291,27 @@ public class AuthenticationController
 
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
 
+        // A principal built from token claims has no email or bio, so read the profile.
+        Optional<User> user = userService.findById(userDetails.getId());
+        if (user.isEmpty())
+        {
+            return ResponseEntity.status(401).body("Unauthorized");
+        }
+
         Map<String, Object> userData = new HashMap<>();
         userData.put("id", userDetails.getId());
-        userData.put("username", userDetails.getUsername());
-        userData.put("email", userDetails.getEmail());
-        userData.put("bio", userDetails.getBio());
+        userData.put("username", user.get().getUsername());
+        userData.put("email", user.get().getEmail());
+        userData.put("bio", user.get().getBio());
         userData.put("roles", userDetails.getAuthorities());
 
         return ResponseEntity.ok(userData);
     }
 
+    //Changing the password revokes every token issued so far; this session gets new ones.
     @PutMapping("/change-password")
-    public ResponseEntity<?> changePassword(Authentication authentication, @RequestBody Map<String, String> request)
+    public ResponseEntity<?> changePassword(Authentication authentication, @RequestBody Map<String, String> request,
+                                            HttpServletResponse response)
     {
         try
         {
@@ -273,7 +329,20 @@ public class AuthenticationController
             UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
             userService.updatePassword(userDetails.getId(), newPassword);
 
-            return ResponseEntity.ok(Map.of("message", "Password updated successfully!"));
+            UserDetailsImpl updated = (UserDetailsImpl) userDetailsService.loadUserById(userDetails.getId());
+            String accessToken = jwtTokenService.generateJwtToken(
+                    updated.getId(),
+                    updated.getUsername(),
+                    updated.getAuthorities(),
+                    updated.getTokenEpoch()
+            );
+            addRefreshCookie(response, jwtTokenService.generateRefreshToken(updated.getId(), updated.getTokenEpoch()));
+
+            return ResponseEntity.ok(Map.of("message", "Password updated successfully!", "accessToken", accessToken));
+        }
+        catch (PasswordHashingBusyException e)
+        {
+            throw e; // 503 with Retry-After.
         }
         catch (Exception e)
         {
@@ -301,6 +370,48 @@ public class AuthenticationController
             return ResponseEntity.status(500).body(Map.of("error", "Server error: " + e.getMessage()));
         }
     }
+
+    private static String refreshTokenCookie(HttpServletRequest request)
+    {
+        Cookie[] cookies = request.getCookies();
+
+        if (cookies == null)
+        {
+            return null;
+        }
+
+        return Arrays.stream(cookies)
+                .filter(c -> c.getName().equals("refresh_token"))
+                .map(Cookie::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    //Denylists the token until it expires. If the denylist is full, every token the user holds
+    //is revoked instead, which signs out their other sessions too but never leaves this one valid.
+    private void revoke(String token)
+    {
+        jwtTokenService.verify(token).ifPresent(verified -> {
+            if ( (verified.jti() == null) || ( ! tokenDenylist.revoke(verified.jti(), verified.expiresAt())) )
+            {
+                userService.revokeTokens(verified.userId());
+            }
+        });
+    }
+
+    private static void addRefreshCookie(HttpServletResponse response, String refreshToken)
+    {
+        ResponseCookie cookie = ResponseCookie.from("refresh_token", refreshToken)
+                .httpOnly(true)
+                .secure(false) //turn off for localhost.
+                .path("/")
+                .maxAge(7 * 24 * 60 * 60) //One week.
+                .sameSite("Lax") //Change from "Strict" for localhost.
+                .build();
+
+        response.addHeader("Set-Cookie", cookie.toString());
+        response.addHeader("Access-Control-Expose-Headers", "Set-Cookie");
+    }
 }
 
 //***************************************************************************************
@@ -9,20 +9,37 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryDTO;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryPage;
+import mcckyle.gratitudejournal.gratitudejournal.dto.ImportResult;
+import mcckyle.gratitudejournal.gratitudejournal.dto.SearchHit;
+import mcckyle.gratitudejournal.gratitudejournal.dto.StreakStats;
+import mcckyle.gratitudejournal.gratitudejournal.dto.YearHeatmap;
 import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
 import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsImpl;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarExportService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarHeatmapService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarImportService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarResponseCache;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarSearchService;
 import mcckyle.gratitudejournal.gratitudejournal.service.CalendarService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 
 //***************************************************************************************
@@ -32,31 +49,182 @@ import java.util.Optional;
 public class CalendarEntryController
 {
     private final CalendarService calendarService;
+    private final CalendarExportService calendarExportService;
+    private final CalendarImportService calendarImportService;
+    private final CalendarResponseCache calendarResponseCache;
+    private final CalendarSearchService calendarSearchService;
+    private final CalendarHeatmapService calendarHeatmapService;
+    private final CalendarStatsService calendarStatsService;
 
     @Autowired
-    public CalendarEntryController(CalendarService calendarService)
+    public CalendarEntryController(CalendarService calendarService, CalendarExportService calendarExportService,
+                                   CalendarImportService calendarImportService, CalendarResponseCache calendarResponseCache,
+                                   CalendarSearchService calendarSearchService, CalendarHeatmapService calendarHeatmapService,
+                                   CalendarStatsService calendarStatsService)
     {
         this.calendarService = calendarService;
+        this.calendarExportService = calendarExportService;
+        this.calendarImportService = calendarImportService;
+        this.calendarResponseCache = calendarResponseCache;
+        this.calendarSearchService = calendarSearchService;
+        this.calendarHeatmapService = calendarHeatmapService;
+        this.calendarStatsService = calendarStatsService;
     }
 
-    // GET all calendar entries for a specific user.
+    // GET one page of calendar entry summaries (id, title, date) for the current user, newest first.
+    // Optional from/to (YYYY-MM-DD, inclusive) restrict the page to a date range such as one month.
     @GetMapping
-    public ResponseEntity<List<CalendarEntry>> getEntries(Authentication authentication)
+    public ResponseEntity<byte[]> getEntries(Authentication authentication,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "" + CalendarService.DEFAULT_PAGE_SIZE) int limit,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
     {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         Integer userId = userDetails.getId();
 
-        List<CalendarEntry> entries = calendarService.getEntriesByUserId(userId);
+        // The page is served from already-serialized bytes while the user's entries are unchanged.
+        CalendarResponseCache.CachedResponse cached;
 
-        if ( (entries == null) || (entries.isEmpty()) )
+        try
+        {
+            String query = from + "|" + to + "|" + cursor + "|" + limit;
+            cached = calendarResponseCache.get(userId, query, () -> calendarService.getEntriesPage(userId, from, to, cursor, limit));
+        }
+        catch (IllegalArgumentException e)
+        {
+            return ResponseEntity.badRequest().build(); // 400 - Bad cursor, limit or date range.
+        }
+
+        if (cached.isEmpty())
         {
             return ResponseEntity.noContent().build(); // 204 - No Content.
         }
 
-        return ResponseEntity.ok(entries); // 200 - OK with the list of entries.
+        boolean gzip = (acceptEncoding != null) && (acceptEncoding.contains("gzip"));
+
+        if (cached.matches(ifNoneMatch))
+        {
+            // 304 - Not Modified, the client's copy is current.
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.eTag(gzip))
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(cached.eTag(gzip))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (gzip)
+        {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        // 200 - OK with the page of entries and the next cursor.
+        return builder.body(gzip ? cached.gzippedBody() : cached.body());
     }
 
-    // Get a calendar entry by ID.
+    // GET every entry for the current user as a download (ndjson, csv or zip).
+    // The body is streamed straight from the database cursor, so large journals use constant memory.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEntries(Authentication authentication,
+                                                               @RequestParam(defaultValue = "ndjson") String format)
+    {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Integer userId = userDetails.getId();
+
+        CalendarExportService.Format exportFormat;
+
+        try
+        {
+            exportFormat = CalendarExportService.Format.from(format);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return ResponseEntity.badRequest().build(); // 400 - Unknown format.
+        }
+
+        StreamingResponseBody body = out -> calendarExportService.exportEntries(userId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("journal." + exportFormat.getExtension()).build().toString())
+                .body(body);
+    }
+
+    // GET entries matching a search, best matches first, with highlighted snippets instead of full content.
+    @GetMapping("/search")
+    public ResponseEntity<CalendarEntryPage<SearchHit>> searchEntries(Authentication authentication,
+                                                                      @RequestParam("q") String query,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "" + CalendarService.DEFAULT_PAGE_SIZE) int limit)
+    {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Integer userId = userDetails.getId();
+
+        try
+        {
+            return ResponseEntity.ok(calendarSearchService.search(userId, query, cursor, limit)); // 200 - OK, possibly with no matches.
+        }
+        catch (IllegalArgumentException e)
+        {
+            return ResponseEntity.badRequest().build(); // 400 - Missing or overlong query, bad cursor or limit.
+        }
+    }
+
+    // GET the number of entries per day for one year (the current year by default), for the calendar view.
+    @GetMapping("/heatmap")
+    public ResponseEntity<YearHeatmap> getHeatmap(Authentication authentication, @RequestParam(required = false) Integer year)
+    {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Integer userId = userDetails.getId();
+
+        try
+        {
+            int heatmapYear = (year != null) ? year : LocalDate.now().getYear();
+            return ResponseEntity.ok(calendarHeatmapService.getHeatmap(userId, heatmapYear)); // 200 - OK, empty days when nothing was written.
+        }
+        catch (IllegalArgumentException e)
+        {
+            return ResponseEntity.badRequest().build(); // 400 - Year out of range.
+        }
+    }
+
+    // GET the user's current and longest writing streaks and entry count.
+    @GetMapping("/stats")
+    public ResponseEntity<StreakStats> getStats(Authentication authentication)
+    {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Integer userId = userDetails.getId();
+
+        return ResponseEntity.ok(calendarStatsService.getStats(userId)); // 200 - OK, zeros for a user without entries.
+    }
+
+    // POST many entries at once, as a JSON array or NDJSON, e.g. from another journal app.
+    // The body is read as a stream; the response counts imported rows and lists rejected ones.
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResult> importEntries(Authentication authentication, HttpServletRequest request)
+    {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Integer userId = userDetails.getId();
+
+        try
+        {
+            ImportResult result = calendarImportService.importEntries(userId, request.getInputStream());
+            return ResponseEntity.ok(result);
+        }
+        catch (IOException e)
+        {
+            return ResponseEntity.badRequest().build(); // 400 - The request body could not be read.
+        }
+    }
+
+    // Get a calendar entry by ID, including its content.
     @GetMapping("/{entryId}")
     public ResponseEntity<?> getEntryById(Authentication authentication, @PathVariable Integer entryId)
     {
@@ -67,8 +235,8 @@ public class CalendarEntryController
 
         if (entry.isPresent())
         {
-            // If the entry exists, return it with a 200 - OK response.
-            return ResponseEntity.ok(entry.get());
+            // If the entry exists, return it with a 200 - OK response and its version as the ETag.
+            return withETag(ResponseEntity.ok(), entry.get().getVersion()).body(entry.get());
         }
         else
         {
@@ -88,6 +256,11 @@ public class CalendarEntryController
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
             }
 
+            if (dto == null)
+            {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+
             UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
             Integer userId = userDetails.getId();
 
@@ -110,7 +283,8 @@ public class CalendarEntryController
 
     // PUT (update) an existing calendar entry.
     @PutMapping("/{id}")
-    public ResponseEntity<CalendarEntry> updateEntry(Authentication authentication, @PathVariable Integer id, @Valid @RequestBody CalendarEntryDTO dto)
+    public ResponseEntity<CalendarEntry> updateEntry(Authentication authentication, @PathVariable Integer id, @Valid @RequestBody CalendarEntryDTO dto,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
     {
         try
         {
@@ -124,8 +298,12 @@ public class CalendarEntryController
 
             LocalDate date = LocalDate.parse(dto.entryDate); //Convert the String to LocalDate.
             CalendarEntry entry = new CalendarEntry(dto.getTitle(), dto.getContent(), date, userId);
-            CalendarEntry updatedEntry = calendarService.updateEntry(userId, id, entry);
-            return updatedEntry != null ? ResponseEntity.ok(updatedEntry) : ResponseEntity.notFound().build();
+            CalendarEntry updatedEntry = calendarService.updateEntry(userId, id, entry, expectedVersion(ifMatch));
+            return withETag(ResponseEntity.ok(), updatedEntry.getVersion()).body(updatedEntry);
+        }
+        catch (ResponseStatusException e)
+        {
+            return ResponseEntity.status(e.getStatusCode()).build(); // 404 - Not found, or 412 - Modified since the client read it.
         }
         catch (RuntimeException e)
         {
@@ -136,14 +314,15 @@ public class CalendarEntryController
 
     // DELETE a calendar entry by ID.
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEntry(Authentication authentication, @PathVariable("id") Integer entryId)
+    public ResponseEntity<Void> deleteEntry(Authentication authentication, @PathVariable("id") Integer entryId,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
     {
         try
         {
             UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
             Integer userId = userDetails.getId();
 
-            calendarService.deleteEntry(userId, entryId);  // Try to delete the entry.
+            calendarService.deleteEntry(userId, entryId, expectedVersion(ifMatch));  // Try to delete the entry.
             return ResponseEntity.noContent().build();  // Return 204 - No Content if successful.
         }
         catch (ResponseStatusException e)
@@ -152,9 +331,38 @@ public class CalendarEntryController
             {
                 return ResponseEntity.notFound().build();  // Return 404 - NOT FOUND response if entry not found.
             }
+            if (e.getStatusCode() == HttpStatus.PRECONDITION_FAILED)
+            {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();  // Return 412 if the entry changed since the client read it.
+            }
             throw e;  // Rethrow any other unexpected exceptions.
         }
     }
+
+    // The entry version travels as a quoted ETag, e.g. "3".
+    private static ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, Long version)
+    {
+        return (version != null) ? builder.eTag("\"" + version + "\"") : builder;
+    }
+
+    // Reads the expected version from If-Match. A missing header or * means "any version".
+    // Anything that is not one of our strong ETags can never match, so it maps to a version no entry has.
+    private static Long expectedVersion(String ifMatch)
+    {
+        if ( (ifMatch == null) || (ifMatch.isBlank()) || (ifMatch.trim().equals("*")) )
+        {
+            return null;
+        }
+
+        try
+        {
+            return Long.parseLong(ifMatch.trim().replace("\"", ""));
+        }
+        catch (NumberFormatException e)
+        {
+            return -1L;
+        }
+    }
 }
 
 //***************************************************************************************
@@ -9,10 +9,14 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.controller;
 
+import mcckyle.gratitudejournal.gratitudejournal.exception.DuplicateUserException;
 import mcckyle.gratitudejournal.gratitudejournal.model.User;
 import mcckyle.gratitudejournal.gratitudejournal.repository.UserRepository;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserAccountChangedEvent;
 import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -28,6 +32,9 @@ public class UserController
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // --- Get Current User. ---
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser(@AuthenticationPrincipal UserDetailsImpl userDetails)
@@ -61,8 +68,16 @@ public class UserController
             user.setBio(updateRequest.get("bio"));
         }
 
-        // Save updated user.
-        userRepository.save(user);
+        // Save updated user; a taken username or email is answered with 400.
+        try
+        {
+            userRepository.save(user);
+        }
+        catch (DataIntegrityViolationException e)
+        {
+            throw DuplicateUserException.translate(e);
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId())); // Drop the cached login details.
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Profile updated successfully!");
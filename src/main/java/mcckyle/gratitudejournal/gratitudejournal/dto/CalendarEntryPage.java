@@ -0,0 +1,38 @@
+//***************************************************************************************
+//
+//     Filename: CalendarEntryPage.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains one page of calendar entries and the next cursor.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dto;
+
+import java.util.List;
+
+//***************************************************************************************
+
+public class CalendarEntryPage<T>
+{
+    private final List<T> entries;
+    private final String nextCursor; //Null when there are no further pages.
+
+    public CalendarEntryPage(List<T> entries, String nextCursor)
+    {
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getEntries()
+    {
+        return entries;
+    }
+
+    public String getNextCursor()
+    {
+        return nextCursor;
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,24 @@
+//***************************************************************************************
+//
+//     Filename: CalendarEntrySummary.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains the list view of a CalendarEntry, without its body.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+
+//***************************************************************************************
+
+public record CalendarEntrySummary(
+        Integer id,
+        String title,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate entryDate
+) {}
+
+//***************************************************************************************
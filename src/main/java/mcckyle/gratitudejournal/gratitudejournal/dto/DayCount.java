@@ -0,0 +1,18 @@
+//***************************************************************************************
+//
+//     Filename: DayCount.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains the number of entries written on one day.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dto;
+
+import java.time.LocalDate;
+
+//***************************************************************************************
+
+public record DayCount(LocalDate entryDate, long count) {}
+
+//***************************************************************************************
@@ -0,0 +1,58 @@
+//***************************************************************************************
+//
+//     Filename: ImportResult.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains the outcome of a bulk calendar entry import.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//***************************************************************************************
+
+public class ImportResult
+{
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private int imported;
+    private int failed;
+    private final List<RowError> errors = new ArrayList<>(); //Only the first MAX_REPORTED_ERRORS rows.
+
+    public record RowError(int row, List<String> messages) {}
+
+    public void addImported(int count)
+    {
+        imported += count;
+    }
+
+    public void addError(int row, List<String> messages)
+    {
+        failed++;
+
+        if (errors.size() < MAX_REPORTED_ERRORS)
+        {
+            errors.add(new RowError(row, messages));
+        }
+    }
+
+    public int getImported()
+    {
+        return imported;
+    }
+
+    public int getFailed()
+    {
+        return failed;
+    }
+
+    public List<RowError> getErrors()
+    {
+        return errors;
+    }
+}
+
+//***************************************************************************************
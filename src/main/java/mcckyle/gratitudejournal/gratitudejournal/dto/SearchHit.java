@@ -0,0 +1,27 @@
+//***************************************************************************************
+//
+//     Filename: SearchHit.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains one ranked search result with a highlighted snippet.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+
+//***************************************************************************************
+
+//The snippet is HTML-escaped text in which matched words are wrapped in <mark></mark>.
+public record SearchHit(
+        Integer id,
+        String title,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate entryDate,
+        String snippet,
+        double score
+) {}
+
+//***************************************************************************************
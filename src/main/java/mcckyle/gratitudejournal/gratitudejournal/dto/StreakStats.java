@@ -0,0 +1,26 @@
+//***************************************************************************************
+//
+//     Filename: StreakStats.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains a user's writing streaks and entry count.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+
+//***************************************************************************************
+
+//currentStreak is 0 once a full day has passed without an entry.
+public record StreakStats(
+        int currentStreak,
+        int longestStreak,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate lastEntryDate,
+        long totalEntries
+) {}
+
+//***************************************************************************************
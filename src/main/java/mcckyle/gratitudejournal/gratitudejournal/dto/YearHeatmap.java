@@ -0,0 +1,20 @@
+//***************************************************************************************
+//
+//     Filename: YearHeatmap.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains a year of per-day entry counts for the calendar view.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+//***************************************************************************************
+
+//Only days with entries appear in the map; its keys serialize as yyyy-MM-dd, in date order.
+public record YearHeatmap(int year, long total, Map<LocalDate, Long> days) {}
+
+//***************************************************************************************
@@ -0,0 +1,49 @@
+//***************************************************************************************
+//
+//     Filename: ApiExceptionHandler.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file maps exceptions shared by several controllers to responses.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import java.util.Map;
+
+//***************************************************************************************
+
+@RestControllerAdvice
+public class ApiExceptionHandler
+{
+    //The server is out of hashing capacity, not the client over a quota, hence 503.
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingBusy(PasswordHashingBusyException e)
+    {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(DuplicateUserException.class)
+    public ResponseEntity<Map<String, String>> handleDuplicateUser(DuplicateUserException e)
+    {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    //This client or account is over its sign-in allowance, or locked out after failed passwords.
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<Map<String, String>> handleLoginThrottled(LoginThrottledException e)
+    {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .body(Map.of("error", e.getMessage()));
+    }
+}
+
+//***************************************************************************************
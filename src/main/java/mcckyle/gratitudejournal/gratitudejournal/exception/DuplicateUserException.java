@@ -0,0 +1,53 @@
+//***************************************************************************************
+//
+//     Filename: DuplicateUserException.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file implements the exception for a taken username or email.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.exception;
+
+import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.util.Locale;
+
+//***************************************************************************************
+
+public class DuplicateUserException extends RuntimeException
+{
+    public DuplicateUserException(String message)
+    {
+        super(message);
+    }
+
+    //Names the taken field from the violated constraint, or from the database's message when an
+    //older, generated constraint name fired. Anything else is returned unchanged.
+    public static RuntimeException translate(DataIntegrityViolationException e)
+    {
+        String constraint = "";
+        for (Throwable cause = e; cause != null; cause = cause.getCause())
+        {
+            if ( (cause instanceof ConstraintViolationException violation) && (violation.getConstraintName() != null) )
+            {
+                constraint = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                break;
+            }
+        }
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+
+        if ( (constraint.contains(User.USERNAME_CONSTRAINT)) || (message.contains("(username")) )
+        {
+            return new DuplicateUserException("Error: Username is already taken!");
+        }
+        if ( (constraint.contains(User.EMAIL_CONSTRAINT)) || (message.contains("(email")) )
+        {
+            return new DuplicateUserException("Error: Email is already in use!");
+        }
+        return e;
+    }
+}
+
+//***************************************************************************************
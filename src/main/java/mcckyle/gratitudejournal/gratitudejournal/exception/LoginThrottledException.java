@@ -0,0 +1,30 @@
+//***************************************************************************************
+//
+//     Filename: LoginThrottledException.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file implements the exception for a throttled sign-in attempt.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.exception;
+
+//***************************************************************************************
+
+public class LoginThrottledException extends RuntimeException
+{
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds)
+    {
+        super("Too many sign-in attempts. Please try again later.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds()
+    {
+        return retryAfterSeconds;
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,30 @@
+//***************************************************************************************
+//
+//     Filename: PasswordHashingBusyException.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file implements the exception for a full password-hashing queue.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.exception;
+
+//***************************************************************************************
+
+public class PasswordHashingBusyException extends RuntimeException
+{
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds)
+    {
+        super("Too many sign-in requests right now. Please try again shortly.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds()
+    {
+        return retryAfterSeconds;
+    }
+}
+
+//***************************************************************************************
@@ -10,30 +10,40 @@
 package mcckyle.gratitudejournal.gratitudejournal.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import java.util.Objects;
 
 //***************************************************************************************
 
 @Entity
-@Table(name = "calendar_entries")
+@Table(
+        name = "calendar_entries",
+        indexes = @Index(name = "idx_calendar_entries_user_date", columnList = "user_id, entry_date")
+)
 public class CalendarEntry
 {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    //A pooled sequence (unlike IDENTITY) lets Hibernate assign IDs up front and batch the inserts.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendar_entries_seq")
+    @SequenceGenerator(name = "calendar_entries_seq", sequenceName = "calendar_entries_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Integer id;
 
     @NotBlank(message = "Title is required")
     private String title;
 
-    @NotBlank(message = "Content is required")
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    //The body lives in entry_bodies and is only fetched when the content is read.
+    @OneToOne(mappedBy = "entry", fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
+    private EntryBody body;
 
     @NotNull(message = "Entry date is required")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
@@ -43,6 +53,12 @@ public class CalendarEntry
     @Column(nullable = false) //Ensure userId is required.
     private Integer userId;  // Store user ID as a reference (not a foreign key)
 
+    //Bumped on every update; clients echo it back in If-Match to detect concurrent edits.
+    @Version
+    @ColumnDefault("0") //Rows written before versioning start at 0.
+    @Column(nullable = false)
+    private Long version;
+
     // Default constructor
     public CalendarEntry() {}
 
@@ -50,9 +66,16 @@ public class CalendarEntry
     public CalendarEntry(String title, String content, LocalDate entryDate, Integer userId)
     {
         this.title = title;
-        this.content = content;
         this.entryDate = entryDate;
         this.userId = userId;
+        setContent(content);
+    }
+
+    // Constructor for detached copies built by query projections (see CalendarEntryRepository)
+    public CalendarEntry(Integer id, String title, String content, LocalDate entryDate, Integer userId)
+    {
+        this(title, content, entryDate, userId);
+        this.id = id;
     }
 
     // Getters and Setters
@@ -75,12 +98,19 @@ public class CalendarEntry
 
     public String getContent()
     {
-        return content;
+        return (body != null) ? body.getContent() : null;
     }
 
     public void setContent(String content)
     {
-        this.content = content;
+        if (body == null)
+        {
+            body = new EntryBody(this, content);
+        }
+        else
+        {
+            body.setContent(content);
+        }
     }
 
     public LocalDate getEntryDate()
@@ -103,13 +133,23 @@ public class CalendarEntry
         this.userId = userId;
     }
 
+    public Long getVersion()
+    {
+        return version;
+    }
+
+    public void setVersion(Long version)
+    {
+        this.version = version;
+    }
+
     @Override
     public String toString()
     {
         return "CalendarEntry{" +
                 "id=" + id +
                 ", title='" + title + '\'' +
-                ", content='" + content + '\'' +
+                ", content='" + getContent() + '\'' +
                 ", entryDate=" + entryDate +
                 ", userId=" + userId +
                 '}';
@@ -120,12 +160,12 @@ public class CalendarEntry
     {
         if (o == null || getClass() != o.getClass()) return false;
         CalendarEntry that = (CalendarEntry) o;
-        return Objects.equals(id, that.id) && Objects.equals(title, that.title) && Objects.equals(content, that.content) && Objects.equals(entryDate, that.entryDate) && Objects.equals(userId, that.userId);
+        return Objects.equals(id, that.id) && Objects.equals(title, that.title) && Objects.equals(getContent(), that.getContent()) && Objects.equals(entryDate, that.entryDate) && Objects.equals(userId, that.userId);
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash(id, title, content, entryDate, userId);
+        return Objects.hash(id, title, getContent(), entryDate, userId);
     }
 }
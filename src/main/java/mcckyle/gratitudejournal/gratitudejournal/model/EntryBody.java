@@ -0,0 +1,84 @@
+//***************************************************************************************
+//
+//     Filename: EntryBody.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains the large text body of a CalendarEntry.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import java.util.Objects;
+
+//***************************************************************************************
+
+//Kept out of calendar_entries so list queries only read the narrow title/date rows.
+@Entity
+@Table(name = "entry_bodies")
+public class EntryBody
+{
+    @Id
+    private Integer entryId; //Shares the primary key of its CalendarEntry.
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "entry_id")
+    @OnDelete(action = OnDeleteAction.CASCADE) //Deleting an entry removes its body in the same statement.
+    private CalendarEntry entry;
+
+    @NotBlank(message = "Content is required")
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    // Default constructor (required by JPA)
+    public EntryBody() {}
+
+    public EntryBody(CalendarEntry entry, String content)
+    {
+        this.entry = entry;
+        this.content = content;
+    }
+
+    // Getters and Setters
+    public Integer getEntryId()
+    {
+        return entryId;
+    }
+
+    public CalendarEntry getEntry()
+    {
+        return entry;
+    }
+
+    public String getContent()
+    {
+        return content;
+    }
+
+    public void setContent(String content)
+    {
+        this.content = content;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EntryBody that = (EntryBody) o;
+        return Objects.equals(entryId, that.entryId) && Objects.equals(content, that.content);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(entryId, content);
+    }
+}
+
+//***************************************************************************************
@@ -11,6 +11,9 @@ package mcckyle.gratitudejournal.gratitudejournal.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
+import mcckyle.gratitudejournal.gratitudejournal.config.HibernateCacheConfig;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Objects;
 import java.util.Set;
 
@@ -18,6 +21,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.ROLES_REGION)
 public class Role
 {
     @Id
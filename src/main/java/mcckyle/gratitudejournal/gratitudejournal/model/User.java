@@ -11,21 +11,37 @@ package mcckyle.gratitudejournal.gratitudejournal.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import mcckyle.gratitudejournal.gratitudejournal.config.HibernateCacheConfig;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 //***************************************************************************************
 
+//Registration is a single insert; the named constraints reject a taken username or email.
+//Cached in the second-level cache by id, and by username through the natural id.
 @Entity
-@Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USERS_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.USERS_BY_USERNAME_REGION)
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+})
 public class User
 {
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(unique = true)
+    @NaturalId(mutable = true) //Profiles can rename a user.
     private String username;
 
     private String password;
@@ -36,6 +52,7 @@ public class User
     private String bio;
 
     @ManyToMany(fetch = FetchType.EAGER) //EAGER or LAZY gives errors...
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_ROLES_REGION)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -44,6 +61,12 @@ public class User
     @JsonIgnore  // Avoid circular reference when serializing User
     private Set<Role> roles;
 
+    //Tokens carry the epoch they were issued at; bumping it revokes all of them.
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int tokenEpoch;
+
     // Default constructor
     public User()
     {
@@ -123,6 +146,16 @@ public class User
         this.roles = roles;
     }
 
+    public int getTokenEpoch()
+    {
+        return tokenEpoch;
+    }
+
+    public void setTokenEpoch(int tokenEpoch)
+    {
+        this.tokenEpoch = tokenEpoch;
+    }
+
     @Override
     public String toString()
     {
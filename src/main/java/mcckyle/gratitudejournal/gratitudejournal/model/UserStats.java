@@ -0,0 +1,106 @@
+//***************************************************************************************
+//
+//     Filename: UserStats.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains the incrementally maintained writing stats of a user.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+//***************************************************************************************
+
+//One row per user with entries. currentStreak is the run of consecutive days ending at
+//lastEntryDate; whether it is still alive depends on today and is decided when read.
+//A dirty row has an exact total but streaks that need recomputing from the entries.
+@Entity
+@Table(name = "user_stats")
+public class UserStats
+{
+    @Id
+    private Integer userId;
+
+    @Column(nullable = false)
+    private long totalEntries;
+
+    @Column(nullable = false)
+    private int currentStreak;
+
+    @Column(nullable = false)
+    private int longestStreak;
+
+    private LocalDate lastEntryDate;
+
+    @Column(nullable = false)
+    private boolean dirty;
+
+    // Default constructor (required by JPA)
+    public UserStats() {}
+
+    public UserStats(Integer userId)
+    {
+        this.userId = userId;
+    }
+
+    // Getters and Setters
+    public Integer getUserId()
+    {
+        return userId;
+    }
+
+    public long getTotalEntries()
+    {
+        return totalEntries;
+    }
+
+    public void setTotalEntries(long totalEntries)
+    {
+        this.totalEntries = totalEntries;
+    }
+
+    public int getCurrentStreak()
+    {
+        return currentStreak;
+    }
+
+    public void setCurrentStreak(int currentStreak)
+    {
+        this.currentStreak = currentStreak;
+    }
+
+    public int getLongestStreak()
+    {
+        return longestStreak;
+    }
+
+    public void setLongestStreak(int longestStreak)
+    {
+        this.longestStreak = longestStreak;
+    }
+
+    public LocalDate getLastEntryDate()
+    {
+        return lastEntryDate;
+    }
+
+    public void setLastEntryDate(LocalDate lastEntryDate)
+    {
+        this.lastEntryDate = lastEntryDate;
+    }
+
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    public void setDirty(boolean dirty)
+    {
+        this.dirty = dirty;
+    }
+}
+
+//***************************************************************************************
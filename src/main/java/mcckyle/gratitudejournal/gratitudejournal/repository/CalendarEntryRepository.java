@@ -9,17 +9,71 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.repository;
 
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntrySummary;
+import mcckyle.gratitudejournal.gratitudejournal.dto.DayCount;
 import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 //***************************************************************************************
 
-public interface CalendarEntryRepository extends CrudRepository<CalendarEntry, Integer>
+public interface CalendarEntryRepository extends CrudRepository<CalendarEntry, Integer>, CalendarEntryWrites
 {
     List<CalendarEntry> findByUserId(Integer userID);
     Optional<CalendarEntry> findByUserIdAndId(Integer userId, Integer id);
+    boolean existsByUserIdAndId(Integer userId, Integer id);
+
+    //Keyset pagination, newest first, projected to summaries so entry bodies are never read. The id breaks ties between entries on the same day.
+    Window<CalendarEntrySummary> findByUserIdOrderByEntryDateDescIdDesc(Integer userId, ScrollPosition position, Limit limit);
+
+    //Date range (inclusive) for the month view, served by the (user_id, entry_date) index.
+    Window<CalendarEntrySummary> findByUserIdAndEntryDateBetweenOrderByEntryDateDescIdDesc(Integer userId, LocalDate from, LocalDate to,
+                                                                                         ScrollPosition position, Limit limit);
+
+    //Oldest first, for exports. The projection builds detached copies, so the persistence
+    //context stays empty and the JDBC driver fetches rows in batches instead of all at once.
+    //Must be consumed inside a read-only transaction and closed afterwards.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry(e.id, e.title, b.content, e.entryDate, e.userId) " +
+           "from CalendarEntry e join e.body b where e.userId = :userId order by e.entryDate, e.id")
+    Stream<CalendarEntry> streamByUserId(@Param("userId") Integer userId);
+
+    //Entries per day for the heatmap; one small row per active day, served by the (user_id, entry_date) index.
+    @Query("select new mcckyle.gratitudejournal.gratitudejournal.dto.DayCount(e.entryDate, count(e)) " +
+           "from CalendarEntry e where e.userId = :userId and e.entryDate between :from and :to " +
+           "group by e.entryDate order by e.entryDate")
+    List<DayCount> countByDay(@Param("userId") Integer userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    //Distinct days with entries, oldest first, for recomputing writing streaks.
+    @Query("select distinct e.entryDate from CalendarEntry e where e.userId = :userId order by e.entryDate")
+    List<LocalDate> findEntryDates(@Param("userId") Integer userId);
+
+    long countByUserId(Integer userId);
+
+    //Single-statement writes keyed by (userId, id); they return the number of rows affected.
+    //A null expectedVersion skips the optimistic check, otherwise a stale version matches no rows.
+    //The entry's own update is in CalendarEntryWrites, so it can return the new version.
+    @Modifying
+    @Query("update EntryBody b set b.content = :content where b.entryId = :entryId")
+    int updateContent(@Param("entryId") Integer entryId, @Param("content") String content);
+
+    //entry_bodies rows go with it through the ON DELETE CASCADE foreign key.
+    @Modifying
+    @Query("delete from CalendarEntry e " +
+           "where e.userId = :userId and e.id = :id and (:expectedVersion is null or e.version = :expectedVersion)")
+    int deleteByUserIdAndId(@Param("userId") Integer userId, @Param("id") Integer id, @Param("expectedVersion") Long expectedVersion);
 }
 
 //***************************************************************************************
@@ -0,0 +1,24 @@
+//***************************************************************************************
+//
+//     Filename: CalendarEntryWrites.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file declares calendar entry writes that need database-specific SQL.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+//***************************************************************************************
+
+public interface CalendarEntryWrites
+{
+    //One keyed UPDATE that returns the entry's new version, or empty when no row matched.
+    //A null expectedVersion skips the optimistic check, otherwise a stale version matches no rows.
+    Optional<Long> updateByUserIdAndId(Integer userId, Integer id, String title, LocalDate entryDate, Long expectedVersion);
+}
+
+//***************************************************************************************
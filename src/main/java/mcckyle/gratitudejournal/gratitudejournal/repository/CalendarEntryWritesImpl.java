@@ -0,0 +1,74 @@
+//***************************************************************************************
+//
+//     Filename: CalendarEntryWritesImpl.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file implements calendar entry writes that need database-specific SQL.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+//***************************************************************************************
+
+//PostgreSQL returns the new version with UPDATE ... RETURNING. H2 has no RETURNING, but reads
+//the updated row back in the same statement with SELECT ... FROM FINAL TABLE (UPDATE ...).
+public class CalendarEntryWritesImpl implements CalendarEntryWrites
+{
+    private static final String UPDATE =
+            "UPDATE calendar_entries SET title = :title, entry_date = :entryDate, version = version + 1 " +
+            "WHERE user_id = :userId AND id = :id " +
+            "AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = CAST(:expectedVersion AS BIGINT))";
+
+    private static final String POSTGRES_UPDATE = UPDATE + " RETURNING version";
+    private static final String FINAL_TABLE_UPDATE = "SELECT version FROM FINAL TABLE (" + UPDATE + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private boolean postgres;
+
+    @Autowired
+    public CalendarEntryWritesImpl(JdbcTemplate jdbcTemplate)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void detectDatabase()
+    {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        postgres = "PostgreSQL".equalsIgnoreCase(database);
+    }
+
+    @Override
+    public Optional<Long> updateByUserIdAndId(Integer userId, Integer id, String title, LocalDate entryDate, Long expectedVersion)
+    {
+        NativeQuery<?> query = entityManager.createNativeQuery(postgres ? POSTGRES_UPDATE : FINAL_TABLE_UPDATE).unwrap(NativeQuery.class);
+        List<?> versions = query
+                .setParameter("title", title)
+                .setParameter("entryDate", entryDate)
+                .setParameter("userId", userId)
+                .setParameter("id", id)
+                .setParameter("expectedVersion", expectedVersion, Long.class) //Typed, so a null still binds as a bigint.
+                .getResultList();
+
+        return versions.stream().findFirst().map(version -> ((Number) version).longValue());
+    }
+}
+
+//***************************************************************************************
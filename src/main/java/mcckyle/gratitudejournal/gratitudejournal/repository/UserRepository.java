@@ -12,7 +12,10 @@ package mcckyle.gratitudejournal.gratitudejournal.repository;
 //***************************************************************************************
 
 import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 //***************************************************************************************
@@ -20,8 +23,15 @@ import java.util.Optional;
 public interface UserRepository extends CrudRepository<User, Integer>
 {
     Optional<User> findByUsername(String username);
-    Boolean existsByUsername(String username);
-    Boolean existsByEmail(String email);
+
+    //Just the column; checking a token's epoch should not load the user and their roles.
+    @Query("select u.tokenEpoch from User u where u.id = :id")
+    Optional<Integer> findTokenEpochById(@Param("id") Integer id);
+
+    //Rewrites the hash only; a rehash at signin is not a password change and keeps the epoch.
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Integer id, @Param("password") String password);
 }
 
 //***************************************************************************************
\ No newline at end of file
@@ -0,0 +1,50 @@
+//***************************************************************************************
+//
+//     Filename: UserStatsRepository.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains the repository for per-user writing stats.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.repository;
+
+import jakarta.persistence.LockModeType;
+import mcckyle.gratitudejournal.gratitudejournal.model.UserStats;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+//***************************************************************************************
+
+public interface UserStatsRepository extends CrudRepository<UserStats, Integer>
+{
+    //Row lock held until commit, so concurrent writes by the same user apply one at a time.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserStats s where s.userId = :userId")
+    Optional<UserStats> lockByUserId(@Param("userId") Integer userId);
+
+    //For writes whose effect on the streaks is unknown: adjust the total and leave the streaks for a recompute.
+    @Modifying
+    @Query("update UserStats s set s.totalEntries = s.totalEntries + :delta, s.dirty = true where s.userId = :userId")
+    int markDirty(@Param("userId") Integer userId, @Param("delta") long delta);
+
+    //Runs before an edit, while the entry still has its old date; matches only if the edit moves it to another day.
+    @Modifying
+    @Query("update UserStats s set s.dirty = true where s.userId = :userId and exists " +
+           "(select e.id from CalendarEntry e where e.userId = :userId and e.id = :entryId and e.entryDate <> :entryDate)")
+    int markDirtyIfMoved(@Param("userId") Integer userId, @Param("entryId") Integer entryId, @Param("entryDate") LocalDate entryDate);
+
+    @Query("select s.userId from UserStats s where s.dirty = true")
+    List<Integer> findDirtyUserIds();
+
+    @Query("select s.userId from UserStats s")
+    List<Integer> findAllUserIds();
+}
+
+//***************************************************************************************
@@ -0,0 +1,142 @@
+//***************************************************************************************
+//
+//     Filename: BoundedPasswordEncoder.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file runs password hashing on a small, bounded thread pool.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import mcckyle.gratitudejournal.gratitudejournal.exception.PasswordHashingBusyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//***************************************************************************************
+
+//Wraps the real encoder so at most `threads` hashes run at once and at most `queueCapacity`
+//wait. The calling request thread waits for its result, so a login burst ties up no more than
+//threads + queueCapacity Tomcat workers; beyond that, callers get PasswordHashingBusyException
+//straight away (503 with Retry-After) and the remaining workers stay free for other requests.
+//Metrics: password.hashing.queue.depth, password.hashing.active, password.hashing.rejected and
+//the password.hashing.duration timer tagged operation=encode|matches.
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable
+{
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry)
+    {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration").tag("operation", "matches")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword)
+    {
+        return run(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword)
+    {
+        return run(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword)
+    {
+        return delegate.upgradeEncoding(encodedPassword); //Only inspects the hash prefix.
+    }
+
+    @Override
+    public void close()
+    {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> hashing)
+    {
+        Future<T> result;
+        try
+        {
+            result = executor.submit(hashing);
+        }
+        catch (RejectedExecutionException e)
+        {
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds());
+        }
+
+        try
+        {
+            return result.get();
+        }
+        catch (InterruptedException e)
+        {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException runtime)
+            {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error)
+            {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    //Roughly how long the queue ahead takes to drain, from the average hash time so far.
+    private long retryAfterSeconds()
+    {
+        double meanMs = Math.max(encodeTimer.mean(TimeUnit.MILLISECONDS), matchesTimer.mean(TimeUnit.MILLISECONDS));
+        double drainMs = meanMs * (executor.getQueue().size() + executor.getActiveCount()) / executor.getMaximumPoolSize();
+        return Math.max(1, (long) Math.ceil(drainMs / 1000));
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "password-hashing-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
+
+//***************************************************************************************
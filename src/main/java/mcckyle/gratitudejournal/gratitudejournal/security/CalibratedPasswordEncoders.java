@@ -0,0 +1,125 @@
+//***************************************************************************************
+//
+//     Filename: CalibratedPasswordEncoders.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file builds the password encoders, tuned to this host at startup.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+//***************************************************************************************
+
+//New hashes are written as "{id}hash" with the configured algorithm, whose work factor is
+//picked by timing a cheap probe hash on this host and scaling it up to the target latency.
+//bcrypt and argon2 store their parameters in the hash, so hashes made under an earlier
+//calibration still verify and are reported by upgradeEncoding() once they fall behind.
+//PBKDF2 does not, so it keeps Spring's fixed defaults and is never calibrated.
+//Hashes stored before ids were added are plain bcrypt and always report an upgrade.
+public final class CalibratedPasswordEncoders
+{
+    private static final Logger logger = LoggerFactory.getLogger(CalibratedPasswordEncoders.class);
+
+    public static final int MIN_BCRYPT_STRENGTH = 10;
+    public static final int MAX_BCRYPT_STRENGTH = 16;
+    public static final int MIN_ARGON2_ITERATIONS = 2;
+    public static final int MAX_ARGON2_ITERATIONS = 16;
+
+    private static final int PROBE_BCRYPT_STRENGTH = 8;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+    private static final int ARGON2_MEMORY_KB = 1 << 14;
+    private static final int PROBE_RUNS = 3;
+
+    private CalibratedPasswordEncoders()
+    {
+    }
+
+    public static DelegatingPasswordEncoder create(String algorithm, Duration target)
+    {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder());
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        switch (algorithm)
+        {
+            case "bcrypt" -> encoders.put("bcrypt", calibratedBcrypt(target));
+            case "argon2" -> encoders.put("argon2", calibratedArgon2(target));
+            case "pbkdf2" -> logger.info("Password hashing: pbkdf2 with fixed default parameters");
+            default -> throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt")); //Hashes without an {id}.
+        return encoder;
+    }
+
+    //Each bcrypt strength step doubles the work, so the probe scales by powers of two.
+    public static int bcryptStrength(long probeNanos, Duration target)
+    {
+        double doublings = Math.log((double) target.toNanos() / Math.max(1, probeNanos)) / Math.log(2);
+        return Math.clamp(PROBE_BCRYPT_STRENGTH + (long) Math.floor(doublings), MIN_BCRYPT_STRENGTH, MAX_BCRYPT_STRENGTH);
+    }
+
+    //Argon2 work grows linearly with iterations at a fixed memory size; the probe runs one.
+    public static int argon2Iterations(long probeNanos, Duration target)
+    {
+        return Math.clamp(target.toNanos() / Math.max(1, probeNanos), MIN_ARGON2_ITERATIONS, MAX_ARGON2_ITERATIONS);
+    }
+
+    private static BCryptPasswordEncoder calibratedBcrypt(Duration target)
+    {
+        long probeNanos = fastestEncode(new BCryptPasswordEncoder(PROBE_BCRYPT_STRENGTH));
+        int strength = bcryptStrength(probeNanos, target);
+
+        logger.info("Password hashing: bcrypt strength {} for a {} ms target (strength {} took {} ms)",
+                strength, target.toMillis(), PROBE_BCRYPT_STRENGTH, probeNanos / 1_000_000);
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    private static Argon2PasswordEncoder calibratedArgon2(Duration target)
+    {
+        long probeNanos = fastestEncode(argon2(1));
+        int iterations = argon2Iterations(probeNanos, target);
+
+        logger.info("Password hashing: argon2 with {} iterations for a {} ms target (one took {} ms)",
+                iterations, target.toMillis(), probeNanos / 1_000_000);
+        return argon2(iterations);
+    }
+
+    private static Argon2PasswordEncoder argon2(int iterations)
+    {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, ARGON2_MEMORY_KB, iterations);
+    }
+
+    //The first run warms up the JIT; the fastest of the rest is the least disturbed by other load.
+    private static long fastestEncode(PasswordEncoder encoder)
+    {
+        encoder.encode("calibration");
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_RUNS; i++)
+        {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+}
+
+//***************************************************************************************
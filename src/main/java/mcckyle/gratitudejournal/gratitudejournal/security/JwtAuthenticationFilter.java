@@ -13,28 +13,43 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtUtils;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.TokenDenylist;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Optional;
 
 //***************************************************************************************
 
+//With jwt.claims-principal on (the default), access tokens are turned into a principal from
+//their claims, and only the user's token epoch is checked (usually from cache). With it off,
+//or for tokens without a username claim, the user is loaded from the database as before.
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter
 {
-    private final JwtUtils jwtUtils;
+    private final JwtTokenService jwtTokenService;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenEpochService tokenEpochService;
+    private final TokenDenylist tokenDenylist;
+    private final boolean claimsPrincipal;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService)
+    public JwtAuthenticationFilter(JwtTokenService jwtTokenService, UserDetailsServiceImpl userDetailsService,
+                                   TokenEpochService tokenEpochService, TokenDenylist tokenDenylist,
+                                   @Value("${jwt.claims-principal:true}") boolean claimsPrincipal)
     {
-        this.jwtUtils = jwtUtils;
+        this.jwtTokenService = jwtTokenService;
         this.userDetailsService = userDetailsService; // Inject UserDetailsServiceImpl bean
+        this.tokenEpochService = tokenEpochService;
+        this.tokenDenylist = tokenDenylist;
+        this.claimsPrincipal = claimsPrincipal;
     }
 
     @Override
@@ -57,17 +72,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter
         {
             String jwt = authHeader.substring(7); // Remove the "Bearer " prefix.
 
-            if (jwtUtils.validateJwtToken(jwt))
+            Optional<VerifiedToken> verified = jwtTokenService.verify(jwt); //One parse for validity and claims.
+
+            if (verified.isPresent())
             {
-                Integer userId = jwtUtils.getUserIdFromJwtToken(jwt);
-                //System.out.println("Token validated, userId: " + userId);
+                VerifiedToken claims = verified.get();
+                Integer userId = claims.userId();
+
+                // Revoked by logout, a password change or account deletion.
+                if ( (tokenDenylist.isRevoked(claims.jti())) || ( ! tokenEpochService.isCurrent(userId, claims.tokenEpoch())) )
+                {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Access token has been revoked. Please log in again.");
+                    return;
+                }
 
                 if ( (userId != null) && ( SecurityContextHolder.getContext().getAuthentication() == null) )
                 {
                     try
                     {
-                        // Use UserDetailsService to load user details
-                        UserDetails userDetails = userDetailsService.loadUserById(userId);
+                        // Build the principal from the token, or use UserDetailsService to load user details
+                        UserDetails userDetails = ( (claimsPrincipal) && (claims.username() != null) )
+                                ? UserDetailsImpl.fromToken(claims)
+                                : userDetailsService.loadUserById(userId);
 
                         // Create authentication token and set it in the context
                         UsernamePasswordAuthenticationToken token =
@@ -0,0 +1,324 @@
+//***************************************************************************************
+//
+//     Filename: LoginThrottle.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file limits sign-in attempts per username and per client address.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import mcckyle.gratitudejournal.gratitudejournal.exception.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+//***************************************************************************************
+
+//Checked before a sign-in reaches the password encoder, so rejected attempts cost no hashing.
+//Usernames and client addresses each hash onto a fixed array of token buckets, one packed
+//AtomicLong per stripe updated by CAS, so memory does not grow with the number of keys and
+//keys that share a stripe share its budget. That is fine for a rate, but not for a lockout:
+//lockouts are kept per exact (normalized) username in a bounded cache, so one account's
+//failures or success never lock or unlock another. A count-min sketch of failures only
+//decides when a username is worth tracking there: a one-off typo takes no cache entry, and a
+//sketch overestimate can start a tracked count at most one failure high. From the threshold
+//on, each further failure doubles the username's lockout, up to the maximum. A successful
+//sign-in clears that username; the decay halves the sketch and the tracked counts.
+//Rejections are counted in auth.signin.rejected tagged reason=locked|ip_rate|username_rate.
+@Component
+public class LoginThrottle
+{
+    private final StripedTokenBuckets usernameBuckets;
+    private final StripedTokenBuckets addressBuckets;
+    private static final int TRACK_FROM_FAILURES = 2;
+
+    private final FailureSketch failures;
+    private final Cache<String, Lockout> lockouts;
+    private final int lockoutThreshold;
+    private final long lockoutBaseMs;
+    private final long lockoutMaxMs;
+    private final Clock clock;
+
+    private final Counter lockedRejections;
+    private final Counter addressRejections;
+    private final Counter usernameRejections;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${app.security.login-throttle.stripes:4096}") int stripes,
+                         @Value("${app.security.login-throttle.username.capacity:5}") int usernameCapacity,
+                         @Value("${app.security.login-throttle.username.refill-seconds:12}") long usernameRefillSeconds,
+                         @Value("${app.security.login-throttle.ip.capacity:20}") int addressCapacity,
+                         @Value("${app.security.login-throttle.ip.refill-seconds:3}") long addressRefillSeconds,
+                         @Value("${app.security.login-throttle.lockout.threshold:5}") int lockoutThreshold,
+                         @Value("${app.security.login-throttle.lockout.base-seconds:1}") long lockoutBaseSeconds,
+                         @Value("${app.security.login-throttle.lockout.max-seconds:900}") long lockoutMaxSeconds,
+                         @Value("${app.security.login-throttle.lockout.max-tracked:100000}") long maxTracked)
+    {
+        this(meterRegistry, stripes, usernameCapacity, usernameRefillSeconds * 1000, addressCapacity, addressRefillSeconds * 1000,
+                lockoutThreshold, lockoutBaseSeconds * 1000, lockoutMaxSeconds * 1000, maxTracked, Clock.systemUTC());
+    }
+
+    public LoginThrottle(MeterRegistry meterRegistry, int stripes, int usernameCapacity, long usernameRefillMs,
+                         int addressCapacity, long addressRefillMs, int lockoutThreshold, long lockoutBaseMs,
+                         long lockoutMaxMs, long maxTracked, Clock clock)
+    {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1; //Next power of two.
+        this.usernameBuckets = new StripedTokenBuckets(size, usernameCapacity, usernameRefillMs);
+        this.addressBuckets = new StripedTokenBuckets(size, addressCapacity, addressRefillMs);
+        this.failures = new FailureSketch(size);
+        this.lockouts = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterWrite(Duration.ofMillis(lockoutMaxMs))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+        this.lockoutThreshold = lockoutThreshold;
+        this.lockoutBaseMs = lockoutBaseMs;
+        this.lockoutMaxMs = lockoutMaxMs;
+        this.clock = clock;
+
+        this.lockedRejections = rejections(meterRegistry, "locked");
+        this.addressRejections = rejections(meterRegistry, "ip_rate");
+        this.usernameRejections = rejections(meterRegistry, "username_rate");
+    }
+
+    //Throws LoginThrottledException (429 with Retry-After) when the attempt must not go ahead.
+    public void checkAllowed(String username, String clientAddress)
+    {
+        String user = keyOf(username);
+        long now = clock.millis();
+
+        Lockout lockout = lockouts.getIfPresent(user);
+        long lockedMs = (lockout != null) ? lockout.lockedUntil() - now : 0;
+        if (lockedMs > 0)
+        {
+            lockedRejections.increment();
+            throw new LoginThrottledException(toRetrySeconds(lockedMs));
+        }
+
+        long waitMs = addressBuckets.acquire(keyOf(clientAddress), now);
+        if (waitMs > 0)
+        {
+            addressRejections.increment();
+            throw new LoginThrottledException(toRetrySeconds(waitMs));
+        }
+
+        waitMs = usernameBuckets.acquire(user, now);
+        if (waitMs > 0)
+        {
+            usernameRejections.increment();
+            throw new LoginThrottledException(toRetrySeconds(waitMs));
+        }
+    }
+
+    public void recordFailure(String username)
+    {
+        String user = keyOf(username);
+        long now = clock.millis();
+        int trackFrom = Math.min(TRACK_FROM_FAILURES, lockoutThreshold);
+
+        lockouts.asMap().compute(user, (key, lockout) ->
+        {
+            int count;
+            if (lockout != null)
+            {
+                count = lockout.failures() + 1;
+            }
+            else if (failures.increment(key) >= trackFrom)
+            {
+                count = trackFrom; //Never more, whatever else shares the sketch counters.
+            }
+            else
+            {
+                return null;
+            }
+
+            long lockedUntil = (lockout != null) ? lockout.lockedUntil() : 0;
+            if (count >= lockoutThreshold)
+            {
+                int doublings = Math.min(count - lockoutThreshold, 30);
+                lockedUntil = Math.max(lockedUntil, now + Math.min(lockoutMaxMs, lockoutBaseMs << doublings));
+            }
+            return new Lockout(count, lockedUntil);
+        });
+    }
+
+    public void recordSuccess(String username)
+    {
+        String user = keyOf(username);
+        failures.reset(user);
+        lockouts.invalidate(user);
+    }
+
+    //Old failures fade out, so the sketch never saturates and a forgotten password is forgiven.
+    //Running lockouts are kept; a tracked count that halves to zero is dropped.
+    @Scheduled(fixedRateString = "${app.security.login-throttle.decay-seconds:600}", timeUnit = TimeUnit.SECONDS)
+    public void decay()
+    {
+        failures.halve();
+
+        long now = clock.millis();
+        lockouts.asMap().replaceAll((user, lockout) -> new Lockout(lockout.failures() / 2, lockout.lockedUntil()));
+        lockouts.asMap().values().removeIf(lockout -> (lockout.failures() == 0) && (lockout.lockedUntil() <= now));
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason)
+    {
+        return Counter.builder("auth.signin.rejected")
+                .description("Sign-in attempts turned away before password verification")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    //Trimmed and lower-cased, so case variations of a username share its buckets and lockout.
+    private static String keyOf(String value)
+    {
+        return (value != null) ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static long toRetrySeconds(long waitMs)
+    {
+        return Math.max(1, (waitMs + 999) / 1000);
+    }
+
+    private static int stripe(String key, int size)
+    {
+        return mix(key.hashCode()) & (size - 1);
+    }
+
+    //Murmur3 finalizer, so similar usernames and addresses spread across the stripes.
+    private static int mix(int h)
+    {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private record Lockout(int failures, long lockedUntil)
+    {
+    }
+
+    //Each stripe packs its token count into the top 16 bits and the time of its last refill,
+    //in epoch milliseconds, into the low 48. Zero means the stripe has never been used.
+    private static final class StripedTokenBuckets
+    {
+        private static final long TIME_MASK = (1L << 48) - 1;
+
+        private final AtomicLongArray states;
+        private final long capacity;
+        private final long refillMs;
+
+        StripedTokenBuckets(int stripes, int capacity, long refillMs)
+        {
+            this.states = new AtomicLongArray(stripes);
+            this.capacity = Math.min(capacity, 0xFFFF);
+            this.refillMs = refillMs;
+        }
+
+        //Takes a token and returns 0, or returns how long until the next token is due.
+        long acquire(String key, long now)
+        {
+            int stripe = stripe(key, states.length());
+            while (true)
+            {
+                long state = states.get(stripe);
+                long tokens = (state == 0) ? capacity : (state >>> 48);
+                long refilledAt = (state == 0) ? now : (state & TIME_MASK);
+
+                long earned = Math.max(0, now - refilledAt) / refillMs;
+                if (earned > 0)
+                {
+                    tokens = Math.min(capacity, tokens + earned);
+                    refilledAt = (tokens == capacity) ? now : refilledAt + earned * refillMs;
+                }
+
+                if (tokens == 0)
+                {
+                    return refilledAt + refillMs - now;
+                }
+
+                long next = ((tokens - 1) << 48) | (refilledAt & TIME_MASK);
+                if (states.compareAndSet(stripe, state, next))
+                {
+                    return 0;
+                }
+            }
+        }
+    }
+
+    //Count-min sketch: four rows of counters indexed by independent hashes of the key. The
+    //smallest of a key's four counters never undercounts it, and only overcounts by collisions.
+    private static final class FailureSketch
+    {
+        private static final int DEPTH = 4;
+
+        private final AtomicIntegerArray counters;
+        private final int width;
+
+        FailureSketch(int width)
+        {
+            this.counters = new AtomicIntegerArray(DEPTH * width);
+            this.width = width;
+        }
+
+        int increment(String key)
+        {
+            int estimate = Integer.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++)
+            {
+                estimate = Math.min(estimate, counters.incrementAndGet(index(key, row)));
+            }
+            return estimate;
+        }
+
+        //Takes the key's estimate back out of each of its counters; colliding keys may lose a little.
+        void reset(String key)
+        {
+            int estimate = Integer.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++)
+            {
+                estimate = Math.min(estimate, counters.get(index(key, row)));
+            }
+
+            int delta = estimate;
+            for (int row = 0; row < DEPTH; row++)
+            {
+                counters.getAndUpdate(index(key, row), count -> Math.max(0, count - delta));
+            }
+        }
+
+        void halve()
+        {
+            for (int i = 0; i < counters.length(); i++)
+            {
+                counters.getAndUpdate(i, count -> count >>> 1);
+            }
+        }
+
+        //Double hashing: row i uses h1 + i * h2, with h2 odd so the rows differ.
+        private int index(String key, int row)
+        {
+            int h1 = mix(key.hashCode());
+            int h2 = mix(h1 ^ 0x9e3779b9) | 1;
+            return (row * width) + ((h1 + row * h2) & (width - 1));
+        }
+    }
+}
+
+//***************************************************************************************
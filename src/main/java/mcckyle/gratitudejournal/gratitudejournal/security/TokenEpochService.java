@@ -0,0 +1,63 @@
+//***************************************************************************************
+//
+//     Filename: TokenEpochService.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file checks tokens against each user's current token epoch.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import mcckyle.gratitudejournal.gratitudejournal.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+
+//***************************************************************************************
+
+//A token is revoked once the user's epoch has moved past the one it was issued at, or the
+//user is gone. Epochs are cached so most requests never query for them. Changes made on this
+//instance take effect on commit; on other instances, within the cache's time-to-live.
+@Service
+public class TokenEpochService
+{
+    private static final int DELETED_USER = -1; //Matches no token.
+    private static final int MAX_CACHED_USERS = 100_000;
+
+    private final UserRepository userRepository;
+    private final Cache<Integer, Integer> epochs;
+
+    @Autowired
+    public TokenEpochService(UserRepository userRepository, @Value("${jwt.epoch-cache.ttl-seconds:60}") long ttlSeconds)
+    {
+        this.userRepository = userRepository;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_USERS)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public boolean isCurrent(Integer userId, int tokenEpoch)
+    {
+        return epochs.get(userId, this::loadEpoch) == tokenEpoch;
+    }
+
+    //Published after the user's epoch is bumped or the user is deleted, among other changes.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event)
+    {
+        epochs.invalidate(event.userId());
+    }
+
+    private int loadEpoch(Integer userId)
+    {
+        return userRepository.findTokenEpochById(userId).orElse(DELETED_USER);
+    }
+}
+
+//***************************************************************************************
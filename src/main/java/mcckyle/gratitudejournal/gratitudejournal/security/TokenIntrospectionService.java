@@ -0,0 +1,73 @@
+//***************************************************************************************
+//
+//     Filename: TokenIntrospectionService.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file reports whether tokens are still active, for gateways.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security;
+
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.TokenDenylist;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+//***************************************************************************************
+
+//Every check here is answered from memory: the signature and expiry from the verified-token
+//cache, which keeps each result until its token expires; logouts from the denylist; and
+//revocation or deletion from the epoch cache, which UserAccountChangedEvent clears. Only an
+//epoch cache miss reads the database, once per user per TTL.
+@Service
+public class TokenIntrospectionService
+{
+    private final JwtTokenService jwtTokenService;
+    private final TokenDenylist tokenDenylist;
+    private final TokenEpochService tokenEpochService;
+
+    @Autowired
+    public TokenIntrospectionService(JwtTokenService jwtTokenService, TokenDenylist tokenDenylist,
+                                     TokenEpochService tokenEpochService)
+    {
+        this.jwtTokenService = jwtTokenService;
+        this.tokenDenylist = tokenDenylist;
+        this.tokenEpochService = tokenEpochService;
+    }
+
+    //Empty if the token does not verify, was logged out, or its user's epoch has moved on.
+    public Optional<VerifiedToken> introspect(String token)
+    {
+        return jwtTokenService.verify(token)
+                .filter(verified -> ! tokenDenylist.isRevoked(verified.jti()))
+                .filter(verified -> tokenEpochService.isCurrent(verified.userId(), verified.tokenEpoch()));
+    }
+
+    //RFC 7662 style: inactive tokens say nothing more, so callers learn nothing about why.
+    public Map<String, Object> describe(String token)
+    {
+        Map<String, Object> result = new LinkedHashMap<>();
+        Optional<VerifiedToken> active = introspect(token);
+
+        result.put("active", active.isPresent());
+        active.ifPresent(verified -> {
+            result.put("tokenType", (verified.username() != null) ? "access" : "refresh");
+            result.put("userId", verified.userId());
+            if (verified.username() != null)
+            {
+                result.put("username", verified.username());
+                result.put("roles", verified.roles());
+            }
+            result.put("jti", verified.jti());
+            result.put("exp", verified.expiresAt().getEpochSecond());
+        });
+        return result;
+    }
+}
+
+//***************************************************************************************
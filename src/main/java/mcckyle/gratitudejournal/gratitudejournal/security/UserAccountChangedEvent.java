@@ -0,0 +1,18 @@
+//***************************************************************************************
+//
+//     Filename: UserAccountChangedEvent.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains the event published when a user account changes.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security;
+
+//***************************************************************************************
+
+//Published after a user's profile, password or roles change, or the account is deleted.
+//Listeners drop whatever they cached about the user once the change commits.
+public record UserAccountChangedEvent(Integer userId) {}
+
+//***************************************************************************************
@@ -10,10 +10,12 @@
 package mcckyle.gratitudejournal.gratitudejournal.security;
 
 import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,9 +29,16 @@ public class UserDetailsImpl implements UserDetails
     private String password;
     private String bio;
     private Collection<? extends GrantedAuthority> authorities;
+    private int tokenEpoch;
 
     public UserDetailsImpl(Integer id, String username, String email, String password, String bio,
                            Collection<? extends GrantedAuthority> authorities)
+    {
+        this(id, username, email, password, bio, authorities, 0);
+    }
+
+    public UserDetailsImpl(Integer id, String username, String email, String password, String bio,
+                           Collection<? extends GrantedAuthority> authorities, int tokenEpoch)
     {
         this.id = id;
         this.username = username;
@@ -37,6 +46,7 @@ public class UserDetailsImpl implements UserDetails
         this.password = password;
         this.bio = bio;
         this.authorities = authorities;
+        this.tokenEpoch = tokenEpoch;
     }
 
     public static UserDetailsImpl build(User user)
@@ -52,10 +62,23 @@ public class UserDetailsImpl implements UserDetails
                 user.getEmail(),
                 user.getPassword(),
                 user.getBio(),
-                authorities
+                authorities,
+                user.getTokenEpoch()
         );
     }
 
+    //A principal from an access token's claims alone; email, bio and password are not in
+    //the token and stay null. Endpoints that need them load the user.
+    public static UserDetailsImpl fromToken(VerifiedToken token)
+    {
+        List<GrantedAuthority> authorities = token.roles().stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+
+        return new UserDetailsImpl(token.userId(), token.username(), null, null, null,
+                authorities, token.tokenEpoch());
+    }
+
     public Integer getId()
     {
         return id;
@@ -82,6 +105,11 @@ public class UserDetailsImpl implements UserDetails
         return bio;
     }
 
+    public int getTokenEpoch()
+    {
+        return tokenEpoch;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities()
     {
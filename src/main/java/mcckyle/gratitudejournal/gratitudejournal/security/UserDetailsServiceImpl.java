@@ -9,42 +9,107 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import mcckyle.gratitudejournal.gratitudejournal.model.User;
 import mcckyle.gratitudejournal.gratitudejournal.service.UserRetrievalHelper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 //***************************************************************************************
 
+//Built users are cached by id, with a username -> id index for logins, so neither path queries
+//the user and their roles on every call. Entries are dropped when a UserAccountChangedEvent
+//commits and otherwise expire after the TTL. The cache's hit, miss and eviction counts are
+//published as the "cache.*" meters tagged cache=userDetails.
+//As the UserDetailsPasswordService, it stores the new hash when a signin finds the old one
+//out of date (see CalibratedPasswordEncoders).
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService
 {
     private final UserRetrievalHelper userRetrievalHelper;
+    private final Cache<Integer, UserDetailsImpl> usersById;
+    private final Cache<String, Integer> idsByUsername;
 
     @Autowired
-    public UserDetailsServiceImpl(UserRetrievalHelper userRetrievalHelper)
+    public UserDetailsServiceImpl(UserRetrievalHelper userRetrievalHelper, MeterRegistry meterRegistry,
+                                  @Value("${app.security.user-cache.max-size:10000}") long maxSize,
+                                  @Value("${app.security.user-cache.ttl-seconds:300}") long ttlSeconds)
     {
         this.userRetrievalHelper = userRetrievalHelper;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.idsByUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "userDetails");
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException
     {
+        //The index can be stale after a rename or deletion, so the cached user must still match.
+        Integer id = idsByUsername.getIfPresent(username);
+        if (id != null)
+        {
+            UserDetailsImpl cached = usersById.getIfPresent(id);
+            if ( (cached != null) && (cached.getUsername().equals(username)) )
+            {
+                return cached;
+            }
+            idsByUsername.invalidate(username);
+        }
+
         User user = userRetrievalHelper.findByUsername(username)
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found with username" + username));
 
-        return buildUserDetails(user);
+        UserDetailsImpl userDetails = buildUserDetails(user);
+        usersById.put(user.getId(), userDetails);
+        idsByUsername.put(username, user.getId());
+        return userDetails;
     }
 
     public UserDetails loadUserById(Integer id) throws UsernameNotFoundException
+    {
+        return usersById.get(id, this::loadFromDatabase);
+    }
+
+    //Called by the authentication provider after a successful signin whose hash needs upgrading.
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword)
+    {
+        Integer id = ((UserDetailsImpl) user).getId();
+        userRetrievalHelper.updatePassword(id, newPassword);
+        usersById.invalidate(id);
+        return loadUserById(id);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event)
+    {
+        usersById.invalidate(event.userId()); //The username index is checked on use.
+    }
+
+    private UserDetailsImpl loadFromDatabase(Integer id)
     {
         User user = userRetrievalHelper.loadUserById(id);
 
@@ -55,7 +120,7 @@ public class UserDetailsServiceImpl implements UserDetailsService
         return buildUserDetails(user);
     }
 
-    private UserDetails buildUserDetails(User user)
+    private UserDetailsImpl buildUserDetails(User user)
     {
         Set<GrantedAuthority> authorities = user.getRoles().stream()
                 .map(role -> new SimpleGrantedAuthority(role.getName()))
@@ -67,10 +132,10 @@ public class UserDetailsServiceImpl implements UserDetailsService
                 user.getEmail(),
                 user.getPassword(),
                 user.getBio(),
-                authorities
+                authorities,
+                user.getTokenEpoch()
         );
     }
 }
 
 //***************************************************************************************
-
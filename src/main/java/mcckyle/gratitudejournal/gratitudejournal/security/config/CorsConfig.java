@@ -31,11 +31,12 @@ public class CorsConfig
                 "https://journal-backend-vnla.onrender.com" //Replace with real URL.
         ));
         corsConfig.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        corsConfig.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept"));
+        corsConfig.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept", "If-Match", "If-None-Match"));
         corsConfig.setExposedHeaders(List.of(
                 "Set-Cookie",
                 "Authorization",
-                "Content-Type"
+                "Content-Type",
+                "ETag"
         ));
         corsConfig.setAllowCredentials(true);
         corsConfig.setMaxAge(3600L);
@@ -10,8 +10,11 @@
 package mcckyle.gratitudejournal.gratitudejournal.security.config;
 
 import mcckyle.gratitudejournal.gratitudejournal.security.JwtAuthenticationFilter;
+import mcckyle.gratitudejournal.gratitudejournal.security.TokenEpochService;
 import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsServiceImpl;
-import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtUtils;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.TokenDenylist;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -21,9 +24,11 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig
 {
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtUtils jwtUtils, UserDetailsServiceImpl userDetailsService)
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenService jwtTokenService, UserDetailsServiceImpl userDetailsService,
+                                                           TokenEpochService tokenEpochService, TokenDenylist tokenDenylist,
+                                                           @Value("${jwt.claims-principal:true}") boolean claimsPrincipal)
     {
-        return new JwtAuthenticationFilter(jwtUtils, userDetailsService);
+        return new JwtAuthenticationFilter(jwtTokenService, userDetailsService, tokenEpochService, tokenDenylist, claimsPrincipal);
     }
 }
 
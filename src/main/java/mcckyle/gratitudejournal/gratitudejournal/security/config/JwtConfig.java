@@ -9,7 +9,7 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.security.config;
 
-import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtUtils;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
 import mcckyle.gratitudejournal.gratitudejournal.service.UserService;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,12 +18,12 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class JwtConfig
 {
-    private final JwtUtils jwtUtils;
+    private final JwtTokenService jwtTokenService;
     private final UserService userService;
 
-    public JwtConfig(JwtUtils jwtUtils, UserService userService)
+    public JwtConfig(JwtTokenService jwtTokenService, UserService userService)
     {
-        this.jwtUtils = jwtUtils;
+        this.jwtTokenService = jwtTokenService;
         this.userService = userService;
     }
 }
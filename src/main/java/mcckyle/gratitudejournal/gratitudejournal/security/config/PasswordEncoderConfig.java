@@ -9,10 +9,14 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.security.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import mcckyle.gratitudejournal.gratitudejournal.security.BoundedPasswordEncoder;
+import mcckyle.gratitudejournal.gratitudejournal.security.CalibratedPasswordEncoders;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
 
 //***************************************************************************************
 
@@ -20,10 +24,19 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordEncoderConfig
 {
 
+    //Hashing runs on its own bounded pool so sign-in bursts cannot take every request thread.
+    //threads = 0 means one per available processor. The algorithm's work factor is calibrated
+    //at startup to take about target-ms per hash on this host.
     @Bean
-    public PasswordEncoder passwordEncoder()
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${app.security.password-hashing.threads:0}") int threads,
+                                           @Value("${app.security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                           @Value("${app.security.password-hashing.algorithm:bcrypt}") String algorithm,
+                                           @Value("${app.security.password-hashing.target-ms:100}") long targetMs)
     {
-        return new BCryptPasswordEncoder();
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        PasswordEncoder encoder = CalibratedPasswordEncoders.create(algorithm, Duration.ofMillis(targetMs));
+        return new BoundedPasswordEncoder(encoder, poolSize, queueCapacity, meterRegistry);
     }
 }
 
@@ -19,6 +19,9 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 //***************************************************************************************
@@ -29,6 +32,12 @@ public class SecurityFilterChainConfig
     @Value("${app.security.force-https:false}")
     private boolean forceHttps;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
                                                    JwtAuthenticationFilter jwtAuthenticationFilter,
@@ -40,6 +49,9 @@ public class SecurityFilterChainConfig
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll() //Register, signin, refresh, validate endpoints.
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers(prometheusScrape()).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") //Cache and other metrics.
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) //Add the JWT Filter.
@@ -73,6 +85,16 @@ public class SecurityFilterChainConfig
 
         return http.build();
     }
+
+    //Scrapers carry no JWT. They reach /actuator/prometheus on the separate management port,
+    //which only the internal network can reach; on any other port it stays admin-only.
+    private RequestMatcher prometheusScrape()
+    {
+        RequestMatcher managementPortOnly = request -> (managementPort > 0) && (managementPort != serverPort)
+                && (request.getLocalPort() == managementPort);
+
+        return new AndRequestMatcher(AntPathRequestMatcher.antMatcher("/actuator/prometheus"), managementPortOnly);
+    }
 }
 
 //***************************************************************************************
@@ -0,0 +1,221 @@
+//***************************************************************************************
+//
+//     Filename: JwtTokenService.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains auth token generation and verification.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+//***************************************************************************************
+
+//The signing key and parser are built once; both are immutable and thread-safe. A token is
+//parsed once per verification, and tokens verified recently are remembered by their SHA-256
+//until they expire, so a client repeating the same access token skips the HMAC and JSON work.
+@Component
+public class JwtTokenService
+{
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenService.class);
+
+    private static final String ISSUER = "gratitudejournal";
+    private static final String AUDIENCE = "gratitudejournal-client";
+    private static final long REFRESH_EXPIRATION_MS = 604800000; //One week.
+    private static final String EPOCH_CLAIM = "epoch";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final int jwtExpirationMs;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    @Autowired
+    public JwtTokenService(@Value("${jwt.secret}") String jwtSecret,
+                           @Value("${jwt.expirationMs}") int jwtExpirationMs,
+                           @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheSize)
+    {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .requireIssuer(ISSUER)
+                .requireAudience(AUDIENCE)
+                .setSigningKey(signingKey)
+                .build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    //An entry lives exactly as long as its token; reads and overwrites do not extend it.
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken>
+    {
+        @Override
+        public long expireAfterCreate(String hash, VerifiedToken token, long currentTime)
+        {
+            return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String hash, VerifiedToken token, long currentTime, long currentDuration)
+        {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String hash, VerifiedToken token, long currentTime, long currentDuration)
+        {
+            return currentDuration;
+        }
+    }
+
+    @Timed(value = "jwt.sign", extraTags = {"type", "access"}, histogram = true)
+    public String generateJwtToken(Integer userId, String username,
+                                   Collection<? extends GrantedAuthority> authorities, int tokenEpoch)
+    {
+        String roles = authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        String jti = UUID.randomUUID().toString(); //Add unique identifier.
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setIssuer(ISSUER)
+                .setAudience(AUDIENCE)
+                .setId(jti)
+                .setSubject(String.valueOf(userId))
+                .claim("username", username)
+                .claim("roles", roles)
+                .claim(EPOCH_CLAIM, tokenEpoch)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + jwtExpirationMs))
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    @Timed(value = "jwt.sign", extraTags = {"type", "refresh"}, histogram = true)
+    public String generateRefreshToken(Integer userId, int tokenEpoch)
+    {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setIssuer(ISSUER)
+                .setAudience(AUDIENCE)
+                .setId(UUID.randomUUID().toString()) //Lets logout revoke it.
+                .setSubject(String.valueOf(userId))
+                .claim(EPOCH_CLAIM, tokenEpoch)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + REFRESH_EXPIRATION_MS))
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    //Empty if the token is malformed, unsigned, expired, for another issuer or audience,
+    //or has no numeric subject. Only successful verifications are cached.
+    @Timed(value = "jwt.verify", histogram = true)
+    public Optional<VerifiedToken> verify(String token)
+    {
+        if ( (token == null) || (token.isBlank()) )
+        {
+            return Optional.empty();
+        }
+
+        String hash = sha256(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null)
+        {
+            return Optional.of(cached);
+        }
+
+        VerifiedToken verified = parse(token);
+        if (verified != null)
+        {
+            verifiedTokens.put(hash, verified);
+        }
+        return Optional.ofNullable(verified);
+    }
+
+    private VerifiedToken parse(String token)
+    {
+        try
+        {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+
+            if ( (claims.getExpiration() == null) || (claims.getSubject() == null) )
+            {
+                return null;
+            }
+
+            String roles = claims.get("roles", String.class);
+            Integer tokenEpoch = claims.get(EPOCH_CLAIM, Integer.class);
+
+            return new VerifiedToken(
+                    Integer.valueOf(claims.getSubject()),
+                    claims.get("username", String.class),
+                    ( (roles == null) || (roles.isEmpty()) ) ? List.of() : Arrays.asList(roles.split(",")),
+                    claims.getId(),
+                    (tokenEpoch != null) ? tokenEpoch : 0,
+                    claims.getExpiration().toInstant());
+        }
+        catch (ExpiredJwtException e)
+        {
+            logger.debug("JWT token is expired: {}", e.getMessage());
+        }
+        catch (UnsupportedJwtException e)
+        {
+            logger.debug("JWT token is unsupported: {}", e.getMessage());
+        }
+        catch (MalformedJwtException e)
+        {
+            logger.debug("Malformed JWT token: {}", e.getMessage());
+        }
+        catch (JwtException | IllegalArgumentException e) //NumberFormatException included.
+        {
+            logger.debug("Invalid JWT token: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static String sha256(String token)
+    {
+        try
+        {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException("SHA-256 is not available", e); //Every JRE must provide it.
+        }
+    }
+}
+
+//***************************************************************************************
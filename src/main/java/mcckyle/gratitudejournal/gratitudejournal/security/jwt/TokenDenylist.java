@@ -0,0 +1,124 @@
+//***************************************************************************************
+//
+//     Filename: TokenDenylist.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file holds revoked token ids until the tokens would have expired.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security.jwt;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+//***************************************************************************************
+
+//Revoked jtis live in a concurrent set, so the per-request check is a lock-free hash lookup.
+//Each one is also filed in a hashed timing wheel under the tick its token expires; every tick
+//sweeps one slot and forgets the ids whose tokens can no longer verify anyway. Entries further
+//out than one turn of the wheel stay in their slot until the sweep that reaches their tick.
+//The store is per instance and capped; revoke() reports when it is full so the caller can
+//fall back to revoking all of the user's tokens through their epoch.
+@Component
+public class TokenDenylist
+{
+    private record Entry(String jti, long expiryTick) {}
+
+    private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<Entry>[] wheel;
+    private final long tickMs;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private long lastTick; //Only touched by advance().
+
+    @Autowired
+    public TokenDenylist(MeterRegistry meterRegistry,
+                         @Value("${jwt.denylist.tick-ms:1000}") long tickMs,
+                         @Value("${jwt.denylist.wheel-size:1024}") int wheelSize,
+                         @Value("${jwt.denylist.max-entries:1000000}") int maxEntries)
+    {
+        this(tickMs, wheelSize, maxEntries, Clock.systemUTC());
+        Gauge.builder("jwt.denylist.size", revoked, Set::size)
+                .description("Revoked token ids not yet expired")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TokenDenylist(long tickMs, int wheelSize, int maxEntries, Clock clock)
+    {
+        this.tickMs = tickMs;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.wheel = new ConcurrentLinkedQueue[wheelSize];
+        for (int i = 0; i < wheelSize; i++)
+        {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = clock.millis() / tickMs;
+    }
+
+    //False only when the store is full and the token could not be recorded.
+    public boolean revoke(String jti, Instant expiresAt)
+    {
+        long expiresAtMs = expiresAt.toEpochMilli();
+        if (expiresAtMs <= clock.millis())
+        {
+            return true; //Already rejected as expired.
+        }
+        if (revoked.size() >= maxEntries)
+        {
+            return false;
+        }
+
+        if (revoked.add(jti))
+        {
+            long expiryTick = (expiresAtMs + tickMs - 1) / tickMs; //First tick at or after expiry.
+            wheel[(int) Math.floorMod(expiryTick, (long) wheel.length)].add(new Entry(jti, expiryTick));
+        }
+        return true;
+    }
+
+    public boolean isRevoked(String jti)
+    {
+        return (jti != null) && (revoked.contains(jti));
+    }
+
+    public int size()
+    {
+        return revoked.size();
+    }
+
+    //Sweeps every slot passed since the last call, at most one full turn after a long pause.
+    @Scheduled(fixedRateString = "${jwt.denylist.tick-ms:1000}")
+    public synchronized void advance()
+    {
+        long currentTick = clock.millis() / tickMs;
+
+        for (long tick = Math.max(lastTick + 1, currentTick - wheel.length + 1); tick <= currentTick; tick++)
+        {
+            wheel[(int) Math.floorMod(tick, (long) wheel.length)].removeIf(entry -> {
+                if (entry.expiryTick() > currentTick)
+                {
+                    return false; //Comes round again on a later turn.
+                }
+                revoked.remove(entry.jti());
+                return true;
+            });
+        }
+
+        lastTick = currentTick;
+    }
+}
+
+//***************************************************************************************
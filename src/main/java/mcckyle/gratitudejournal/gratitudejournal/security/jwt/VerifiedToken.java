@@ -0,0 +1,28 @@
+//***************************************************************************************
+//
+//     Filename: VerifiedToken.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains the claims of a token whose signature has been checked.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.security.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+//***************************************************************************************
+
+//Refresh tokens carry only a subject, jti and epoch, so their username is null and roles empty.
+//Tokens issued before epochs existed count as epoch 0.
+public record VerifiedToken(
+        Integer userId,
+        String username,
+        List<String> roles,
+        String jti,
+        int tokenEpoch,
+        Instant expiresAt
+) {}
+
+//***************************************************************************************
@@ -0,0 +1,65 @@
+//***************************************************************************************
+//
+//     Filename: CalendarEntryCursor.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file encodes and decodes the opaque keyset pagination cursor.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//***************************************************************************************
+
+public final class CalendarEntryCursor
+{
+    private CalendarEntryCursor() {}
+
+    //The cursor is the (entryDate, id) key of the last entry on the previous page.
+    public static String encode(LocalDate entryDate, Integer id)
+    {
+        String raw = entryDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetScrollPosition decode(String cursor)
+    {
+        if ( (cursor == null) || (cursor.isBlank()) )
+        {
+            return ScrollPosition.keyset();
+        }
+
+        try
+        {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+
+            if (separator < 0)
+            {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+
+            //Key order must match the (entryDate DESC, id DESC) sort of the query.
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("entryDate", LocalDate.parse(raw.substring(0, separator)));
+            keys.put("id", Integer.valueOf(raw.substring(separator + 1)));
+
+            return ScrollPosition.forward(keys);
+        }
+        catch (DateTimeParseException | IllegalArgumentException e) //NumberFormatException is an IllegalArgumentException.
+        {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,165 @@
+//***************************************************************************************
+//
+//     Filename: CalendarExportService.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file streams a user's calendar entries as NDJSON, CSV or ZIP.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+//***************************************************************************************
+
+@Service
+public class CalendarExportService
+{
+    public enum Format
+    {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv"),
+        ZIP("application/zip", "zip");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension)
+        {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType()
+        {
+            return contentType;
+        }
+
+        public String getExtension()
+        {
+            return extension;
+        }
+
+        public static Format from(String value)
+        {
+            try
+            {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            }
+            catch (IllegalArgumentException | NullPointerException e)
+            {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public CalendarExportService(CalendarEntryRepository calendarEntryRepository, ObjectMapper objectMapper)
+    {
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    //Writes one entry at a time as rows arrive from the database, so heap use does not grow
+    //with the size of the journal. The caller owns (and closes) the output stream.
+    @Transactional(readOnly = true)
+    public void exportEntries(Integer userId, Format format, OutputStream out) throws IOException
+    {
+        try (Stream<CalendarEntry> entries = calendarEntryRepository.streamByUserId(userId))
+        {
+            Iterator<CalendarEntry> iterator = entries.iterator();
+
+            switch (format)
+            {
+                case NDJSON -> writeNdjson(iterator, out);
+                case CSV -> writeCsv(iterator, out);
+                case ZIP -> writeZip(iterator, out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<CalendarEntry> entries, OutputStream out) throws IOException
+    {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null); //Lines are separated explicitly below.
+
+        while (entries.hasNext())
+        {
+            generator.writeObject(entries.next());
+            generator.writeRaw('\n');
+        }
+
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<CalendarEntry> entries, OutputStream out) throws IOException
+    {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,entryDate,title,content\r\n");
+
+        while (entries.hasNext())
+        {
+            CalendarEntry entry = entries.next();
+            writer.write(entry.getId() + "," + entry.getEntryDate() + ","
+                    + csvField(entry.getTitle()) + "," + csvField(entry.getContent()) + "\r\n");
+        }
+
+        writer.flush();
+    }
+
+    //One plain text file per entry, named by date and ID so the archive sorts chronologically.
+    private void writeZip(Iterator<CalendarEntry> entries, OutputStream out) throws IOException
+    {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+
+        while (entries.hasNext())
+        {
+            CalendarEntry entry = entries.next();
+            zip.putNextEntry(new ZipEntry("journal/" + entry.getEntryDate() + "-" + entry.getId() + ".txt"));
+
+            String text = entry.getTitle() + "\n" + entry.getEntryDate() + "\n\n" + entry.getContent() + "\n";
+            zip.write(text.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        zip.finish();
+    }
+
+    //RFC 4180: quote fields containing separators, quotes or line breaks, doubling inner quotes.
+    private static String csvField(String value)
+    {
+        if (value == null)
+        {
+            return "";
+        }
+        if ( (value.indexOf(',') < 0) && (value.indexOf('"') < 0) && (value.indexOf('\n') < 0) && (value.indexOf('\r') < 0) )
+        {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
+
+//***************************************************************************************
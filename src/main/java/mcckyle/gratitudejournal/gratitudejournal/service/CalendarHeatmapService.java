@@ -0,0 +1,94 @@
+//***************************************************************************************
+//
+//     Filename: CalendarHeatmapService.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file provides cached per-day entry counts for a user's year.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import mcckyle.gratitudejournal.gratitudejournal.dto.DayCount;
+import mcckyle.gratitudejournal.gratitudejournal.dto.YearHeatmap;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//***************************************************************************************
+
+//Years are cached in one cache keyed by the user's current version and the year, bounded by
+//the number of days held. A write drops all of the user's years at once: after an update or
+//delete we no longer know which date the entry had.
+@Service
+public class CalendarHeatmapService
+{
+    private static final int MAX_TRACKED_USERS = 100_000;
+
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final Cache<Key, YearHeatmap> heatmaps;
+    private final UserVersions userVersions = new UserVersions(MAX_TRACKED_USERS);
+
+    private record Key(Integer userId, long version, int year) {}
+
+    @Autowired
+    public CalendarHeatmapService(CalendarEntryRepository calendarEntryRepository,
+                                  @Value("${calendar.heatmap-cache.max-days:1000000}") long maxDays)
+    {
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.heatmaps = Caffeine.newBuilder()
+                .maximumWeight(maxDays)
+                .weigher((Key key, YearHeatmap heatmap) -> heatmap.days().size() + 1)
+                .build();
+    }
+
+    //The query runs outside the cache, so a slow load does not block other keys. Two misses for
+    //the same year may both load it; a load that raced a write is stored under the old version.
+    public YearHeatmap getHeatmap(Integer userId, int year)
+    {
+        if ( (year < 1) || (year > 9999) )
+        {
+            throw new IllegalArgumentException("Year is out of range");
+        }
+
+        Key key = new Key(userId, userVersions.current(userId), year);
+        YearHeatmap heatmap = heatmaps.getIfPresent(key);
+
+        if (heatmap == null)
+        {
+            heatmap = load(userId, year);
+            heatmaps.put(key, heatmap);
+        }
+
+        return heatmap;
+    }
+
+    //Called on every write for the user.
+    public void invalidate(Integer userId)
+    {
+        userVersions.bumpAfterCommit(userId);
+    }
+
+    private YearHeatmap load(Integer userId, int year)
+    {
+        Map<LocalDate, Long> days = new LinkedHashMap<>();
+        long total = 0;
+
+        for (DayCount day : calendarEntryRepository.countByDay(userId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)))
+        {
+            days.put(day.entryDate(), day.count());
+            total += day.count();
+        }
+
+        return new YearHeatmap(year, total, Collections.unmodifiableMap(days));
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,153 @@
+//***************************************************************************************
+//
+//     Filename: CalendarImportService.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file bulk imports calendar entries from a JSON array or NDJSON stream.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryDTO;
+import mcckyle.gratitudejournal.gratitudejournal.dto.ImportResult;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+//***************************************************************************************
+
+@Service
+public class CalendarImportService
+{
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final CalendarService calendarService;
+    private final int chunkSize;
+
+    @Autowired
+    public CalendarImportService(CalendarEntryRepository calendarEntryRepository, ObjectMapper objectMapper,
+                                 Validator validator, TransactionTemplate transactionTemplate,
+                                 EntityManager entityManager, CalendarService calendarService, @Value("${calendar.import.chunk-size:500}") int chunkSize)
+    {
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.calendarService = calendarService;
+        this.chunkSize = chunkSize;
+    }
+
+    //Reads entries one at a time from either a JSON array or newline-delimited JSON objects.
+    //Valid rows are saved in chunks, each chunk in its own transaction so Hibernate can batch
+    //the inserts; invalid rows are skipped and reported by their 1-based position.
+    //Malformed JSON ends the import at that row; everything before it is kept.
+    public ImportResult importEntries(Integer userId, InputStream in) throws IOException
+    {
+        ImportResult result = new ImportResult();
+        List<CalendarEntry> chunk = new ArrayList<>(chunkSize);
+        int row = 1; //The row being read, so a failure between two values is charged to the one after.
+
+        try (MappingIterator<CalendarEntryDTO> rows = objectMapper.readerFor(CalendarEntryDTO.class).readValues(in))
+        {
+            for ( ; rows.hasNextValue(); row++)
+            {
+                CalendarEntryDTO dto = rows.nextValue();
+
+                List<String> errors = validate(dto);
+                if ( ! errors.isEmpty())
+                {
+                    result.addError(row, errors);
+                    continue;
+                }
+
+                chunk.add(new CalendarEntry(dto.getTitle(), dto.getContent(), LocalDate.parse(dto.getEntryDate()), userId));
+
+                if (chunk.size() >= chunkSize)
+                {
+                    saveChunk(chunk, result);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        catch (JsonProcessingException e)
+        {
+            result.addError(row, List.of("Malformed JSON: " + e.getOriginalMessage()));
+        }
+
+        saveChunk(chunk, result);
+
+        if (result.getImported() > 0)
+        {
+            calendarService.entriesImported(userId, result.getImported());
+        }
+
+        return result;
+    }
+
+    private List<String> validate(CalendarEntryDTO dto)
+    {
+        List<String> errors = new ArrayList<>();
+
+        if (dto == null)
+        {
+            errors.add("Row is empty");
+            return errors;
+        }
+
+        Set<ConstraintViolation<CalendarEntryDTO>> violations = validator.validate(dto);
+        for (ConstraintViolation<CalendarEntryDTO> violation : violations)
+        {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+
+        if (errors.isEmpty())
+        {
+            try
+            {
+                LocalDate.parse(dto.getEntryDate());
+            }
+            catch (DateTimeParseException e)
+            {
+                errors.add("entryDate: not a valid date");
+            }
+        }
+
+        return errors;
+    }
+
+    private void saveChunk(List<CalendarEntry> chunk, ImportResult result)
+    {
+        if (chunk.isEmpty())
+        {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> calendarEntryRepository.saveAll(chunk));
+        entityManager.clear(); //The request-scoped persistence context would otherwise keep every imported entry.
+
+        result.addImported(chunk.size());
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,131 @@
+//***************************************************************************************
+//
+//     Filename: CalendarResponseCache.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file caches serialized calendar entry list responses per user.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+//***************************************************************************************
+
+//Entry list pages are cached as gzip-compressed JSON, keyed by the user's current version
+//and the request's query. Any write for a user moves them to a new version, so their old
+//pages are never served again and simply age out. Eviction is bounded by total bytes.
+@Component
+public class CalendarResponseCache
+{
+    private static final int MAX_TRACKED_USERS = 100_000;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, CachedResponse> responses;
+    private final UserVersions userVersions = new UserVersions(MAX_TRACKED_USERS);
+
+    private record Key(Integer userId, long version, String query) {}
+
+    //A null body is an empty page, which the controller answers with 204. The digest is of the
+    //uncompressed JSON, so it stays valid across restarts; the gzip form gets its own strong ETag.
+    public record CachedResponse(byte[] gzippedBody, String digest)
+    {
+        public boolean isEmpty()
+        {
+            return gzippedBody == null;
+        }
+
+        public String eTag(boolean gzip)
+        {
+            return gzip ? "\"" + digest + "-gzip\"" : "\"" + digest + "\"";
+        }
+
+        //If-None-Match may list several tags; either encoding of this body counts as a match.
+        public boolean matches(String ifNoneMatch)
+        {
+            if ( (ifNoneMatch == null) || (isEmpty()) )
+            {
+                return false;
+            }
+
+            return ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(eTag(false)) || ifNoneMatch.contains(eTag(true));
+        }
+
+        public byte[] body()
+        {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzippedBody)))
+            {
+                return in.readAllBytes();
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Autowired
+    public CalendarResponseCache(ObjectMapper objectMapper, @Value("${calendar.response-cache.max-bytes:33554432}") long maxBytes)
+    {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, CachedResponse response) -> (response.isEmpty() ? 0 : response.gzippedBody().length) + 64)
+                .build();
+    }
+
+    //Returns the cached page for this user and query, loading and serializing it on a miss.
+    //Exceptions from the loader (e.g. a bad cursor) propagate and nothing is cached.
+    public CachedResponse get(Integer userId, String query, Supplier<CalendarEntryPage<?>> loader)
+    {
+        Key key = new Key(userId, userVersions.current(userId), query);
+        return responses.get(key, k -> serialize(loader.get()));
+    }
+
+    //Called on every write for the user.
+    public void invalidate(Integer userId)
+    {
+        userVersions.bumpAfterCommit(userId);
+    }
+
+    private CachedResponse serialize(CalendarEntryPage<?> page)
+    {
+        if ( (page == null) || (page.getEntries() == null) || (page.getEntries().isEmpty()) )
+        {
+            return new CachedResponse(null, null);
+        }
+
+        try
+        {
+            byte[] json = objectMapper.writeValueAsBytes(page);
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(gzipped))
+            {
+                out.write(json);
+            }
+
+            return new CachedResponse(gzipped.toByteArray(), DigestUtils.md5DigestAsHex(json));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,198 @@
+//***************************************************************************************
+//
+//     Filename: CalendarSearchService.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file provides ranked full-text search over a user's entries.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryPage;
+import mcckyle.gratitudejournal.gratitudejournal.dto.SearchHit;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
+import java.util.List;
+import java.util.stream.Stream;
+
+//***************************************************************************************
+
+//On PostgreSQL, search runs in the database against the generated tsvector columns and GIN
+//indexes that SchemaMigration creates. Elsewhere (H2, MariaDB) it falls back to an in-process
+//inverted index per user, built on first use and dropped whenever that user's entries change.
+@Service
+public class CalendarSearchService
+{
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    //Highlight markers that cannot appear in journal text; swapped for <mark> after escaping.
+    static final char MARK_START = '\u0002';
+    static final char MARK_END = '\u0003';
+
+    private static final int MAX_INDEXED_USERS = 1_000;
+
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=\"" + MARK_START + "\", StopSel=\"" + MARK_END + "\", MaxWords=30, MinWords=10, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+    //Each branch of the UNION can use its own GIN index; the outer query ranks only the hits.
+    private static final String POSTGRES_SEARCH =
+            "WITH q AS (SELECT websearch_to_tsquery('english', ?) AS query), " +
+            "hits AS ( " +
+            "    SELECT e.id FROM calendar_entries e, q WHERE e.user_id = ? AND e.title_tsv @@ q.query " +
+            "    UNION " +
+            "    SELECT b.entry_id FROM entry_bodies b JOIN calendar_entries e ON e.id = b.entry_id, q " +
+            "    WHERE e.user_id = ? AND b.content_tsv @@ q.query " +
+            ") " +
+            "SELECT e.id, e.title, e.entry_date, " +
+            "       ts_rank(setweight(e.title_tsv, 'A') || b.content_tsv, q.query) AS score, " +
+            "       ts_headline('english', b.content, q.query, ?) AS snippet " +
+            "FROM hits " +
+            "JOIN calendar_entries e ON e.id = hits.id " +
+            "JOIN entry_bodies b ON b.entry_id = e.id " +
+            "CROSS JOIN q " +
+            "ORDER BY score DESC, e.entry_date DESC, e.id DESC " +
+            "LIMIT ? OFFSET ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Integer, EntrySearchIndex> indexes;
+
+    private boolean postgres;
+
+    @Autowired
+    public CalendarSearchService(JdbcTemplate jdbcTemplate, CalendarEntryRepository calendarEntryRepository,
+                                 TransactionTemplate transactionTemplate)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(MAX_INDEXED_USERS)
+                .build();
+    }
+
+    @PostConstruct
+    public void detectDatabase()
+    {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        postgres = "PostgreSQL".equalsIgnoreCase(database);
+    }
+
+    //The cursor is the offset of the next page; ranked results have no stable keyset.
+    public CalendarEntryPage<SearchHit> search(Integer userId, String query, String cursor, int limit)
+    {
+        if ( (query == null) || (query.isBlank()) )
+        {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (query.length() > MAX_QUERY_LENGTH)
+        {
+            throw new IllegalArgumentException("Search query is too long");
+        }
+        if (limit < 1)
+        {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        int offset = decodeOffset(cursor);
+        int pageSize = Math.min(limit, CalendarService.MAX_PAGE_SIZE);
+
+        //One extra row tells us whether there is another page.
+        List<SearchHit> hits = postgres
+                ? searchPostgres(userId, query, offset, pageSize + 1)
+                : searchIndex(userId, query, offset, pageSize + 1);
+
+        String nextCursor = null;
+        if (hits.size() > pageSize)
+        {
+            hits = hits.subList(0, pageSize);
+            nextCursor = Integer.toString(offset + pageSize);
+        }
+
+        return new CalendarEntryPage<>(hits, nextCursor);
+    }
+
+    //Called on every write for the user; the fallback index is rebuilt on their next search.
+    public void invalidate(Integer userId)
+    {
+        TransactionHooks.afterCommit(() -> indexes.invalidate(userId));
+    }
+
+    //Escapes the text for HTML, then turns the highlight markers into <mark> tags.
+    static String markup(String highlighted)
+    {
+        if (highlighted == null)
+        {
+            return null;
+        }
+
+        return HtmlUtils.htmlEscape(highlighted)
+                .replace(String.valueOf(MARK_START), "<mark>")
+                .replace(String.valueOf(MARK_END), "</mark>");
+    }
+
+    private List<SearchHit> searchPostgres(Integer userId, String query, int offset, int limit)
+    {
+        return jdbcTemplate.query(POSTGRES_SEARCH,
+                (rs, rowNum) -> new SearchHit(
+                        rs.getInt("id"),
+                        rs.getString("title"),
+                        rs.getDate("entry_date").toLocalDate(),
+                        markup(rs.getString("snippet")),
+                        rs.getDouble("score")),
+                query, userId, userId, HEADLINE_OPTIONS, limit, offset);
+    }
+
+    private List<SearchHit> searchIndex(Integer userId, String query, int offset, int limit)
+    {
+        EntrySearchIndex index = indexes.get(userId, this::buildIndex);
+        return index.search(query).stream().skip(offset).limit(limit).toList();
+    }
+
+    private EntrySearchIndex buildIndex(Integer userId)
+    {
+        //One join query for titles and bodies; the stream needs an open transaction.
+        return transactionTemplate.execute(status -> {
+            try (Stream<CalendarEntry> entries = calendarEntryRepository.streamByUserId(userId))
+            {
+                return new EntrySearchIndex(entries::iterator);
+            }
+        });
+    }
+
+    private static int decodeOffset(String cursor)
+    {
+        if ( (cursor == null) || (cursor.isBlank()) )
+        {
+            return 0;
+        }
+
+        try
+        {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 0)
+            {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            return offset;
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+}
+
+//***************************************************************************************
@@ -9,26 +9,48 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.service;
 
+import io.micrometer.core.annotation.Timed;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryPage;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntrySummary;
 import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
 import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 //***************************************************************************************
 
 @Service
+@Timed(value = "calendar.service", histogram = true)
 public class CalendarService
 {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final CalendarEntryRepository calendarEntryRepository;
+    private final CalendarResponseCache calendarResponseCache;
+    private final CalendarSearchService calendarSearchService;
+    private final CalendarHeatmapService calendarHeatmapService;
+    private final CalendarStatsService calendarStatsService;
 
     @Autowired
-    public CalendarService(CalendarEntryRepository calendarEntryRepository)
+    public CalendarService(CalendarEntryRepository calendarEntryRepository, CalendarResponseCache calendarResponseCache,
+                           CalendarSearchService calendarSearchService, CalendarHeatmapService calendarHeatmapService,
+                           CalendarStatsService calendarStatsService)
     {
         this.calendarEntryRepository = calendarEntryRepository;
+        this.calendarResponseCache = calendarResponseCache;
+        this.calendarSearchService = calendarSearchService;
+        this.calendarHeatmapService = calendarHeatmapService;
+        this.calendarStatsService = calendarStatsService;
     }
 
     public List<CalendarEntry> getEntriesByUserId(Integer userId)
@@ -36,6 +58,41 @@ public class CalendarService
         return calendarEntryRepository.findByUserId(userId);
     }
 
+    public CalendarEntryPage<CalendarEntrySummary> getEntriesPage(Integer userId, LocalDate from, LocalDate to, String cursor, int limit)
+    {
+        if (limit < 1)
+        {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if ( (from == null) != (to == null) )
+        {
+            throw new IllegalArgumentException("Both from and to are required for a date range");
+        }
+        if ( (from != null) && (from.isAfter(to)) )
+        {
+            throw new IllegalArgumentException("From must not be after to");
+        }
+
+        Limit pageSize = Limit.of(Math.min(limit, MAX_PAGE_SIZE));
+        KeysetScrollPosition position = CalendarEntryCursor.decode(cursor);
+
+        Window<CalendarEntrySummary> window = (from == null)
+                ? calendarEntryRepository.findByUserIdOrderByEntryDateDescIdDesc(userId, position, pageSize)
+                : calendarEntryRepository.findByUserIdAndEntryDateBetweenOrderByEntryDateDescIdDesc(userId, from, to, position, pageSize);
+
+        List<CalendarEntrySummary> entries = window.getContent();
+        String nextCursor = null;
+
+        if ( (window.hasNext()) && ( ! entries.isEmpty()) )
+        {
+            CalendarEntrySummary last = entries.get(entries.size() - 1);
+            nextCursor = CalendarEntryCursor.encode(last.entryDate(), last.id());
+        }
+
+        return new CalendarEntryPage<>(entries, nextCursor);
+    }
+
+    @Transactional
     public CalendarEntry createEntry(CalendarEntry entry)
     {
         if ( (entry.getTitle() == null) || (entry.getTitle().trim().isEmpty()) )
@@ -51,22 +108,27 @@ public class CalendarService
             throw new IllegalArgumentException("Entry date cannot be null");
         }
 
-        return calendarEntryRepository.save(entry);
+        CalendarEntry savedEntry = calendarEntryRepository.save(entry);
+        calendarStatsService.entryCreated(entry.getUserId(), entry.getEntryDate());
+        entriesChanged(entry.getUserId());
+        return savedEntry;
     }
 
-    public CalendarEntry updateEntry(Integer userId, Integer id, CalendarEntry changes)
+    //Updates the entry in place without loading it first. expectedVersion comes from If-Match;
+    //when it is null the last write wins, as before.
+    @Transactional
+    public CalendarEntry updateEntry(Integer userId, Integer id, CalendarEntry changes, Long expectedVersion)
     {
-        // Check if the entry exists.
-        CalendarEntry existingEntry = calendarEntryRepository.findByUserIdAndId(userId, id)
-                .orElseThrow(() ->
-                        new ResponseStatusException(HttpStatus.NOT_FOUND, "Entry not found"));
+        calendarStatsService.entryMoving(userId, id, changes.getEntryDate());
+        long version = calendarEntryRepository.updateByUserIdAndId(userId, id, changes.getTitle(), changes.getEntryDate(), expectedVersion)
+                .orElseThrow(() -> writeFailure(userId, id, expectedVersion)); //Also rolls back the stats change.
 
-        // Update the entry fields.
-        existingEntry.setTitle(changes.getTitle());
-        existingEntry.setContent(changes.getContent());
+        calendarEntryRepository.updateContent(id, changes.getContent());
+        entriesChanged(userId);
 
-        // Save and return the updated entry.
-        return calendarEntryRepository.save(existingEntry);
+        CalendarEntry updatedEntry = new CalendarEntry(id, changes.getTitle(), changes.getContent(), changes.getEntryDate(), userId);
+        updatedEntry.setVersion(version);
+        return updatedEntry;
     }
 
     public Optional<CalendarEntry> getEntryById(Integer userId, Integer entryId)
@@ -75,14 +137,46 @@ public class CalendarService
         return calendarEntryRepository.findByUserIdAndId(userId, entryId);
     }
 
-    public void deleteEntry (Integer userId, Integer id)
+    @Transactional
+    public void deleteEntry(Integer userId, Integer id, Long expectedVersion)
+    {
+        int deleted = calendarEntryRepository.deleteByUserIdAndId(userId, id, expectedVersion);
+
+        if (deleted == 0)
+        {
+            throw writeFailure(userId, id, expectedVersion);
+        }
+
+        calendarStatsService.entriesChanged(userId, -1); //The streaks may have lost a day.
+        entriesChanged(userId);
+    }
+
+    //Bulk imports save entries in their own chunk transactions and report here once at the end.
+    @Transactional
+    public void entriesImported(Integer userId, int count)
     {
-        // Check if the entry exists.
-        CalendarEntry existingEntry = calendarEntryRepository.findByUserIdAndId(userId, id)
-                .orElseThrow(() ->
-                        new ResponseStatusException(HttpStatus.NOT_FOUND, "Entry not found"));
+        calendarStatsService.entriesChanged(userId, count);
+        entriesChanged(userId);
+    }
+
+    //Everything derived from a user's entries is stale once they change.
+    private void entriesChanged(Integer userId)
+    {
+        calendarResponseCache.invalidate(userId);
+        calendarSearchService.invalidate(userId);
+        calendarHeatmapService.invalidate(userId);
+    }
+
+    //No row matched: either the entry is missing or its version moved on. Only this
+    //failure path pays for the extra lookup.
+    private ResponseStatusException writeFailure(Integer userId, Integer id, Long expectedVersion)
+    {
+        if ( (expectedVersion != null) && (calendarEntryRepository.existsByUserIdAndId(userId, id)) )
+        {
+            return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Entry was modified");
+        }
 
-        calendarEntryRepository.delete(existingEntry);
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Entry not found");
     }
 }
 
@@ -0,0 +1,184 @@
+//***************************************************************************************
+//
+//     Filename: CalendarStatsService.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file maintains each user's writing streaks and entry count.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import mcckyle.gratitudejournal.gratitudejournal.dto.StreakStats;
+import mcckyle.gratitudejournal.gratitudejournal.model.UserStats;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import mcckyle.gratitudejournal.gratitudejournal.repository.UserStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+//***************************************************************************************
+
+//New entries update the stats row in place under a row lock; edits within the same day leave
+//it alone. Writes whose effect on the streaks is unknown (moves to another day, deletes,
+//imports, back-dated entries) only mark the row dirty; it is then rebuilt from the entry
+//dates on the next read or by the repair jobs.
+@Service
+public class CalendarStatsService
+{
+    private static final Logger logger = LoggerFactory.getLogger(CalendarStatsService.class);
+
+    private final UserStatsRepository userStatsRepository;
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public CalendarStatsService(UserStatsRepository userStatsRepository, CalendarEntryRepository calendarEntryRepository,
+                                TransactionTemplate transactionTemplate)
+    {
+        this(userStatsRepository, calendarEntryRepository, transactionTemplate, Clock.systemDefaultZone());
+    }
+
+    public CalendarStatsService(UserStatsRepository userStatsRepository, CalendarEntryRepository calendarEntryRepository,
+                                TransactionTemplate transactionTemplate, Clock clock)
+    {
+        this.userStatsRepository = userStatsRepository;
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+
+    //Must run in the transaction that saved the entry. A user without a row yet is left
+    //alone; their first read builds it from scratch.
+    public void entryCreated(Integer userId, LocalDate entryDate)
+    {
+        userStatsRepository.lockByUserId(userId).ifPresent(stats -> {
+            stats.setTotalEntries(stats.getTotalEntries() + 1);
+
+            if ( ! stats.isDirty())
+            {
+                extendStreak(stats, entryDate);
+            }
+        });
+    }
+
+    //Must run in the edit's transaction, before the entry is updated. Only a move to another
+    //day can change the streaks; a title or content edit leaves the row clean.
+    public void entryMoving(Integer userId, Integer entryId, LocalDate newDate)
+    {
+        userStatsRepository.markDirtyIfMoved(userId, entryId, newDate);
+    }
+
+    //Must run in the transaction that made the change.
+    public void entriesChanged(Integer userId, long totalDelta)
+    {
+        userStatsRepository.markDirty(userId, totalDelta);
+    }
+
+    public StreakStats getStats(Integer userId)
+    {
+        UserStats stats = userStatsRepository.findById(userId)
+                .filter(existing -> ! existing.isDirty())
+                .orElseGet(() -> repairOrRetry(userId));
+
+        //The stored streak ends at the last entry; it is only current if that was today or yesterday.
+        LocalDate yesterday = LocalDate.now(clock).minusDays(1);
+        boolean alive = (stats.getLastEntryDate() != null) && ( ! stats.getLastEntryDate().isBefore(yesterday));
+
+        return new StreakStats(alive ? stats.getCurrentStreak() : 0, stats.getLongestStreak(),
+                stats.getLastEntryDate(), stats.getTotalEntries());
+    }
+
+    //Rebuilds one user's row from their entry dates while holding its lock.
+    public UserStats repair(Integer userId)
+    {
+        return transactionTemplate.execute(status -> {
+            UserStats stats = userStatsRepository.lockByUserId(userId).orElseGet(() -> new UserStats(userId));
+            recompute(stats, calendarEntryRepository.findEntryDates(userId), calendarEntryRepository.countByUserId(userId));
+            return userStatsRepository.save(stats);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.stats.repair-delay-ms:600000}")
+    public void repairDirty()
+    {
+        List<Integer> userIds = userStatsRepository.findDirtyUserIds();
+        userIds.forEach(this::repair);
+
+        if ( ! userIds.isEmpty())
+        {
+            logger.info("Recomputed writing stats for {} users.", userIds.size());
+        }
+    }
+
+    //Catches anything the incremental path could have missed.
+    @Scheduled(cron = "${calendar.stats.full-repair-cron:0 30 3 * * *}")
+    public void repairAll()
+    {
+        List<Integer> userIds = userStatsRepository.findAllUserIds();
+        userIds.forEach(this::repair);
+        logger.info("Recomputed writing stats for all {} users.", userIds.size());
+    }
+
+    //Two first reads can race to insert the row; the loser repairs the winner's row instead.
+    private UserStats repairOrRetry(Integer userId)
+    {
+        try
+        {
+            return repair(userId);
+        }
+        catch (DataIntegrityViolationException e)
+        {
+            return repair(userId);
+        }
+    }
+
+    private static void extendStreak(UserStats stats, LocalDate entryDate)
+    {
+        LocalDate last = stats.getLastEntryDate();
+
+        if ( (last == null) || (entryDate.isAfter(last)) )
+        {
+            boolean consecutive = (last != null) && (entryDate.equals(last.plusDays(1)));
+            stats.setCurrentStreak(consecutive ? stats.getCurrentStreak() + 1 : 1);
+            stats.setLongestStreak(Math.max(stats.getLongestStreak(), stats.getCurrentStreak()));
+            stats.setLastEntryDate(entryDate);
+        }
+        else if (entryDate.isBefore(last))
+        {
+            stats.setDirty(true); //A back-dated entry may join two earlier runs.
+        }
+        //Another entry on the last day changes no streak.
+    }
+
+    //dates are distinct and in ascending order.
+    private static void recompute(UserStats stats, List<LocalDate> dates, long totalEntries)
+    {
+        int run = 0;
+        int longest = 0;
+        LocalDate previous = null;
+
+        for (LocalDate date : dates)
+        {
+            run = ( (previous != null) && (date.equals(previous.plusDays(1))) ) ? run + 1 : 1;
+            longest = Math.max(longest, run);
+            previous = date;
+        }
+
+        stats.setCurrentStreak(run);
+        stats.setLongestStreak(longest);
+        stats.setLastEntryDate(previous);
+        stats.setTotalEntries(totalEntries);
+        stats.setDirty(false);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,174 @@
+//***************************************************************************************
+//
+//     Filename: EntrySearchIndex.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains an in-process inverted index over one user's entries.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import mcckyle.gratitudejournal.gratitudejournal.dto.SearchHit;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//***************************************************************************************
+
+//Search fallback for databases without PostgreSQL full-text search. An index is built from
+//one user's entries and is immutable afterwards; CalendarSearchService rebuilds it after writes.
+//Every query term must match (title or content), and title matches weigh double.
+public class EntrySearchIndex
+{
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 2;
+    private static final int SNIPPET_CONTEXT = 60;
+    private static final int SNIPPET_LENGTH = 160;
+
+    private record Document(Integer id, String title, LocalDate entryDate, String content) {}
+
+    private record Posting(int document, int titleHits, int contentHits) {}
+
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, List<Posting>> postings = new HashMap<>();
+
+    public EntrySearchIndex(Iterable<CalendarEntry> entries)
+    {
+        for (CalendarEntry entry : entries)
+        {
+            int document = documents.size();
+            String content = (entry.getContent() != null) ? entry.getContent() : "";
+            documents.add(new Document(entry.getId(), entry.getTitle(), entry.getEntryDate(), content));
+
+            Map<String, int[]> hits = new HashMap<>(); //term -> {title hits, content hits}
+            for (String term : terms(entry.getTitle()))
+            {
+                hits.computeIfAbsent(term, t -> new int[2])[0]++;
+            }
+            for (String term : terms(content))
+            {
+                hits.computeIfAbsent(term, t -> new int[2])[1]++;
+            }
+
+            hits.forEach((term, counts) ->
+                    postings.computeIfAbsent(term, t -> new ArrayList<>()).add(new Posting(document, counts[0], counts[1])));
+        }
+    }
+
+    //All matches, best first. Ties go to the newest entry, as in the entry list.
+    public List<SearchHit> search(String query)
+    {
+        Set<String> queryTerms = new LinkedHashSet<>(terms(query));
+        if (queryTerms.isEmpty())
+        {
+            return List.of();
+        }
+
+        Map<Integer, Double> scores = null;
+
+        for (String term : queryTerms)
+        {
+            List<Posting> termPostings = postings.getOrDefault(term, List.of());
+            double idf = Math.log(1.0 + (double) documents.size() / Math.max(1, termPostings.size()));
+
+            Map<Integer, Double> termScores = new HashMap<>();
+            for (Posting posting : termPostings)
+            {
+                if ( (scores == null) || (scores.containsKey(posting.document())) )
+                {
+                    double previous = (scores == null) ? 0 : scores.get(posting.document());
+                    termScores.put(posting.document(), previous + idf * (TITLE_WEIGHT * posting.titleHits() + posting.contentHits()));
+                }
+            }
+
+            scores = termScores; //Only documents matching every term so far survive.
+            if (scores.isEmpty())
+            {
+                return List.of();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(scores.size());
+        scores.forEach((document, score) -> {
+            Document doc = documents.get(document);
+            hits.add(new SearchHit(doc.id(), doc.title(), doc.entryDate(),
+                    CalendarSearchService.markup(snippet(doc.content(), queryTerms)), score));
+        });
+
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(SearchHit::entryDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(SearchHit::id, Comparator.reverseOrder()));
+        return hits;
+    }
+
+    public static List<String> terms(String text)
+    {
+        List<String> terms = new ArrayList<>();
+        if (text != null)
+        {
+            Matcher matcher = TOKEN.matcher(text);
+            while (matcher.find())
+            {
+                terms.add(matcher.group().toLowerCase(Locale.ROOT));
+            }
+        }
+        return terms;
+    }
+
+    //A window of the content around the first match, with every matched word wrapped in
+    //the same markers PostgreSQL's ts_headline is asked for.
+    private static String snippet(String content, Set<String> queryTerms)
+    {
+        List<int[]> matches = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(content);
+        while (matcher.find())
+        {
+            if (queryTerms.contains(matcher.group().toLowerCase(Locale.ROOT)))
+            {
+                matches.add(new int[] {matcher.start(), matcher.end()});
+            }
+        }
+
+        int start = matches.isEmpty() ? 0 : Math.max(0, matches.get(0)[0] - SNIPPET_CONTEXT);
+        int end = Math.min(content.length(), start + SNIPPET_LENGTH);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0)
+        {
+            snippet.append("...");
+        }
+
+        int position = start;
+        for (int[] match : matches)
+        {
+            if ( (match[0] < start) || (match[1] > end) )
+            {
+                continue;
+            }
+            snippet.append(content, position, match[0])
+                    .append(CalendarSearchService.MARK_START)
+                    .append(content, match[0], match[1])
+                    .append(CalendarSearchService.MARK_END);
+            position = match[1];
+        }
+        snippet.append(content, position, end);
+
+        if (end < content.length())
+        {
+            snippet.append("...");
+        }
+        return snippet.toString();
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,90 @@
+//***************************************************************************************
+//
+//     Filename: RoleRegistry.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file keeps the roles table in memory after startup.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import jakarta.annotation.PostConstruct;
+import mcckyle.gratitudejournal.gratitudejournal.model.Role;
+import mcckyle.gratitudejournal.gratitudejournal.repository.RoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//***************************************************************************************
+
+//The roles table only ever holds the built-in roles, so it is read once at startup (creating
+//any that are missing) and served from memory. The Role instances are detached; they are only
+//used as references when linking a user to its roles.
+@Component
+public class RoleRegistry
+{
+    public static final String ROLE_USER = "ROLE_USER";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private static final List<String> BUILT_IN = List.of(ROLE_USER, ROLE_ADMIN);
+
+    private final RoleRepository roleRepository;
+
+    private volatile Map<String, Role> rolesByName = Map.of();
+
+    @Autowired
+    public RoleRegistry(RoleRepository roleRepository)
+    {
+        this.roleRepository = roleRepository;
+    }
+
+    @PostConstruct
+    public void load()
+    {
+        Map<String, Role> roles = readAll();
+
+        List<Role> missing = BUILT_IN.stream()
+                .filter(name -> ! roles.containsKey(name))
+                .map(Role::new)
+                .toList();
+
+        if ( ! missing.isEmpty())
+        {
+            try
+            {
+                roleRepository.saveAll(missing);
+            }
+            catch (DataIntegrityViolationException e)
+            {
+                //Another instance created them first; the reload below picks theirs up.
+            }
+            roles.putAll(readAll());
+        }
+
+        rolesByName = Map.copyOf(roles);
+    }
+
+    public Role get(String name)
+    {
+        Role role = rolesByName.get(name);
+
+        if (role == null)
+        {
+            throw new IllegalStateException("Unknown role: " + name);
+        }
+        return role;
+    }
+
+    private Map<String, Role> readAll()
+    {
+        Map<String, Role> roles = new HashMap<>();
+        roleRepository.findAll().forEach(role -> roles.put(role.getName(), role));
+        return roles;
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,156 @@
+//***************************************************************************************
+//
+//     Filename: SchemaMigration.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file applies the data changes that ddl-auto=update cannot make.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import jakarta.annotation.PostConstruct;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//***************************************************************************************
+
+//ddl-auto=update creates new tables and columns but never moves data. Each step here is
+//guarded so it only does work the first time it is needed.
+@Component
+@DependsOn("entityManagerFactory") //Run after Hibernate has updated the schema.
+public class SchemaMigration
+{
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public SchemaMigration(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate)
+    {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void migrate()
+    {
+        boolean postgres = isPostgres();
+
+        migrateLegacyContent();
+        createUniqueConstraint(User.USERNAME_CONSTRAINT, "username");
+        createUniqueConstraint(User.EMAIL_CONSTRAINT, "email");
+
+        if (postgres)
+        {
+            alignEntryIdSequence();
+            createSearchIndexes();
+        }
+    }
+
+    //Entry content used to be a TEXT column on calendar_entries. Copy it into entry_bodies once and drop the column.
+    public void migrateLegacyContent()
+    {
+        Integer legacyColumns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE LOWER(table_name) = 'calendar_entries' AND LOWER(column_name) = 'content'",
+                Integer.class);
+
+        if ( (legacyColumns == null) || (legacyColumns == 0) )
+        {
+            return; //Already migrated, or a fresh schema.
+        }
+
+        Integer copied = transactionTemplate.execute(status -> {
+            int rows = jdbcTemplate.update(
+                    "INSERT INTO entry_bodies (entry_id, content) " +
+                    "SELECT c.id, c.content FROM calendar_entries c " +
+                    "WHERE c.content IS NOT NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM entry_bodies b WHERE b.entry_id = c.id)");
+            jdbcTemplate.execute("ALTER TABLE calendar_entries DROP COLUMN content");
+            return rows;
+        });
+
+        logger.info("Moved content of {} calendar entries into entry_bodies.", copied);
+    }
+
+    //Registration relies on these constraints alone to reject a taken username or email, but
+    //ddl-auto=update skips a constraint it cannot add (for example over existing duplicates)
+    //with only a warning. Add it here if it is missing, and refuse to start if it cannot be.
+    public void createUniqueConstraint(String constraint, String column)
+    {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.table_constraints " +
+                "WHERE LOWER(table_name) = 'users' AND LOWER(constraint_name) = ?",
+                Integer.class, constraint);
+
+        if ( (existing != null) && (existing > 0) )
+        {
+            return;
+        }
+
+        Integer duplicated = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT " + column + " FROM users WHERE " + column + " IS NOT NULL " +
+                "GROUP BY " + column + " HAVING COUNT(*) > 1) d",
+                Integer.class);
+
+        if ( (duplicated != null) && (duplicated > 0) )
+        {
+            throw new IllegalStateException(duplicated + " values of users." + column + " belong to more than one user, so " +
+                    constraint + " cannot be created. Resolve the duplicates before starting the application.");
+        }
+
+        jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT " + constraint + " UNIQUE (" + column + ")");
+        logger.info("Created unique constraint {} on users.{}.", constraint, column);
+    }
+
+    //Entry IDs used to come from an identity column. The pooled sequence that replaced it starts
+    //at 1, so move it past the existing IDs before Hibernate hands any out. PostgreSQL only;
+    //other databases in use here are created fresh.
+    public void alignEntryIdSequence()
+    {
+        Boolean behind = jdbcTemplate.queryForObject(
+                "SELECT (SELECT last_value FROM calendar_entries_seq) <= COALESCE((SELECT MAX(id) FROM calendar_entries), 0)",
+                Boolean.class);
+
+        if (Boolean.TRUE.equals(behind))
+        {
+            //Leave a full allocation of headroom so the first pooled block cannot overlap existing IDs.
+            jdbcTemplate.queryForObject(
+                    "SELECT setval('calendar_entries_seq', (SELECT MAX(id) FROM calendar_entries) + " + CalendarEntry.ID_ALLOCATION_SIZE + ")",
+                    Long.class);
+            logger.info("Moved calendar_entries_seq past the existing entry IDs.");
+        }
+    }
+
+    //Full-text search columns for CalendarSearchService. Hibernate does not map them, so
+    //ddl-auto=update leaves them alone. Generated columns keep themselves current on every
+    //write, and each gets a GIN index. PostgreSQL only.
+    public void createSearchIndexes()
+    {
+        jdbcTemplate.execute("ALTER TABLE calendar_entries ADD COLUMN IF NOT EXISTS title_tsv tsvector " +
+                "GENERATED ALWAYS AS (to_tsvector('english', coalesce(title, ''))) STORED");
+        jdbcTemplate.execute("ALTER TABLE entry_bodies ADD COLUMN IF NOT EXISTS content_tsv tsvector " +
+                "GENERATED ALWAYS AS (to_tsvector('english', coalesce(content, ''))) STORED");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_calendar_entries_title_tsv ON calendar_entries USING GIN (title_tsv)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_entry_bodies_content_tsv ON entry_bodies USING GIN (content_tsv)");
+    }
+
+    private boolean isPostgres()
+    {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(database);
+    }
+}
+
+//***************************************************************************************
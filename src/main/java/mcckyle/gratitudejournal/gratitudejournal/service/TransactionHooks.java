@@ -0,0 +1,43 @@
+//***************************************************************************************
+//
+//     Filename: TransactionHooks.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file defers cache invalidation until the current transaction commits.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//***************************************************************************************
+
+public final class TransactionHooks
+{
+    private TransactionHooks() {}
+
+    //Runs the action after the surrounding transaction commits, or straight away outside one.
+    //Invalidating any earlier would let a concurrent read cache rows that are about to change.
+    public static void afterCommit(Runnable action)
+    {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+            {
+                @Override
+                public void afterCommit()
+                {
+                    action.run();
+                }
+            });
+        }
+        else
+        {
+            action.run();
+        }
+    }
+}
+
+//***************************************************************************************
@@ -9,10 +9,13 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.service;
 
+import jakarta.persistence.EntityManager;
 import mcckyle.gratitudejournal.gratitudejournal.model.User;
 import mcckyle.gratitudejournal.gratitudejournal.repository.UserRepository;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import java.util.Optional;
 
@@ -22,10 +25,12 @@ import java.util.Optional;
 public class UserRetrievalHelper
 {
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
 
     @Autowired
-    public UserRetrievalHelper(UserRepository userRepository) {
+    public UserRetrievalHelper(UserRepository userRepository, EntityManager entityManager) {
         this.userRepository = userRepository;
+        this.entityManager = entityManager;
     }
 
     public User loadUserById(Integer id) throws UsernameNotFoundException {
@@ -33,8 +38,17 @@ public class UserRetrievalHelper
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + id));
     }
 
+    //By natural id, so a cached username resolves to a cached user without a query.
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
-        return userRepository.findByUsername(username);
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+
+    @Transactional
+    public void updatePassword(Integer id, String encodedPassword) {
+        userRepository.updatePassword(id, encodedPassword);
     }
 }
 
@@ -9,14 +9,16 @@
 
 package mcckyle.gratitudejournal.gratitudejournal.service;
 
-import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import mcckyle.gratitudejournal.gratitudejournal.dto.UserRegistrationDTO;
+import mcckyle.gratitudejournal.gratitudejournal.exception.DuplicateUserException;
 import mcckyle.gratitudejournal.gratitudejournal.model.Role;
 import mcckyle.gratitudejournal.gratitudejournal.model.User;
-import mcckyle.gratitudejournal.gratitudejournal.repository.RoleRepository;
 import mcckyle.gratitudejournal.gratitudejournal.repository.UserRepository;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserAccountChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.util.HashSet;
@@ -29,31 +31,25 @@ import java.util.Set;
 public class UserService implements UserRetrievalService
 {
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder)
+    public UserService(UserRepository userRepository, RoleRegistry roleRegistry, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher)
     {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
+    //One insert for the user and one for its role link; a taken username or email is reported
+    //by the unique constraints instead of being checked with separate queries first.
     @Transactional
     public User registerUser(UserRegistrationDTO registrationDTO)
     {
-        // Check for existing username or email
-        if (userRepository.existsByUsername(registrationDTO.getUsername()))
-        {
-            throw new RuntimeException("Error: Username is already taken!");
-        }
-
-        if (userRepository.existsByEmail(registrationDTO.getEmail()))
-        {
-            throw new RuntimeException("Error: Email is already in use!");
-        }
-
         // Create new user
         User user = new User(
                 registrationDTO.getUsername(),
@@ -62,18 +58,18 @@ public class UserService implements UserRetrievalService
         );
 
         // Assign roles - by default, every user gets "ROLE_USER"
-        Role userRole = roleRepository.findByName("ROLE_USER");
-        if (userRole == null)
-        {
-            userRole = new Role("ROLE_USER");
-            roleRepository.save(userRole);
-        }
-
         Set<Role> roles = new HashSet<>();
-        roles.add(userRole);
+        roles.add(roleRegistry.get(RoleRegistry.ROLE_USER));
         user.setRoles(roles);
 
-        return userRepository.save(user);
+        try
+        {
+            return userRepository.save(user);
+        }
+        catch (DataIntegrityViolationException e)
+        {
+            throw DuplicateUserException.translate(e);
+        }
     }
 
     @Override
@@ -87,19 +83,6 @@ public class UserService implements UserRetrievalService
         return userRepository.findById(id);
     }
 
-    @Transactional
-    @PostConstruct
-    public void initRoles()
-    {
-        if (roleRepository.count() == 0)
-        {
-            Role roleUser = new Role("ROLE_USER");
-            Role roleAdmin = new Role("ROLE_ADMIN");
-            roleRepository.save(roleUser);
-            roleRepository.save(roleAdmin);
-        }
-    }
-
     public boolean userExists(Integer userId)
     {
         return userRepository.existsById(userId);
@@ -112,8 +95,20 @@ public class UserService implements UserRetrievalService
 
         String hashed = passwordEncoder.encode(newPassword);
         user.setPassword(hashed);
+        user.setTokenEpoch(user.getTokenEpoch() + 1); //Sign out every existing session.
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
+    }
+
+    //Revokes every access and refresh token issued to the user so far.
+    public void revokeTokens(Integer userId)
+    {
+        userRepository.findById(userId).ifPresent(user -> {
+            user.setTokenEpoch(user.getTokenEpoch() + 1);
+            userRepository.save(user);
+            eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
+        });
     }
 
     public void deleteUserAccount(Integer userId)
@@ -124,6 +119,7 @@ public class UserService implements UserRetrievalService
         }
 
         userRepository.deleteById(userId);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
     }
 }
 
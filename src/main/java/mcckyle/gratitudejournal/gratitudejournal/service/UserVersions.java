@@ -0,0 +1,48 @@
+//***************************************************************************************
+//
+//     Filename: UserVersions.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file tracks a version per user for caches keyed by it.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.atomic.AtomicLong;
+
+//***************************************************************************************
+
+//Caches put the user's current version in their keys. Any write for a user moves them to a
+//new version, so all of their old entries are never served again and simply age out.
+public final class UserVersions
+{
+    private final Cache<Integer, Long> versions;
+
+    //Versions come from one counter, so a user whose version was evicted and recreated
+    //can never get back a version that keys one of their earlier entries.
+    private final AtomicLong versionCounter = new AtomicLong();
+
+    public UserVersions(long maxTrackedUsers)
+    {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .build();
+    }
+
+    public long current(Integer userId)
+    {
+        return versions.get(userId, id -> versionCounter.incrementAndGet());
+    }
+
+    //Called on every write for the user. Inside a transaction the bump waits for the commit,
+    //so a concurrent read cannot cache the old rows under the new version.
+    public void bumpAfterCommit(Integer userId)
+    {
+        TransactionHooks.afterCommit(() -> versions.put(userId, versionCounter.incrementAndGet()));
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,110 @@
+//***************************************************************************************
+//
+//     Filename: BoundedPasswordEncoderTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the BoundedPasswordEncoder.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mcckyle.gratitudejournal.gratitudejournal.exception.ApiExceptionHandler;
+import mcckyle.gratitudejournal.gratitudejournal.exception.PasswordHashingBusyException;
+import mcckyle.gratitudejournal.gratitudejournal.security.BoundedPasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+//***************************************************************************************
+
+class BoundedPasswordEncoderTest
+{
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Test 1: Delegation - Hashes and checks passwords like the wrapped encoder, and times both
+    @Test
+    void testEncodeAndMatches()
+    {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, meterRegistry))
+        {
+            String hash = encoder.encode("secret");
+
+            assertThat(encoder.matches("secret", hash)).isTrue();
+            assertThat(encoder.matches("wrong", hash)).isFalse();
+            assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count()).isEqualTo(2);
+        }
+    }
+
+    // Test 2: Backpressure - With the thread busy and the queue full, callers are turned away
+    @Test
+    void testRejectsWhenQueueFull() throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder()
+        {
+            @Override
+            public String encode(CharSequence rawPassword)
+            {
+                try
+                {
+                    release.await(10, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword)
+            {
+                return false;
+            }
+        };
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, meterRegistry))
+        {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            await().until(() -> meterRegistry.get("password.hashing.active").gauge().value() == 1);
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            await().until(() -> meterRegistry.get("password.hashing.queue.depth").gauge().value() == 1);
+
+            assertThatThrownBy(() -> encoder.encode("c"))
+                    .isInstanceOf(PasswordHashingBusyException.class)
+                    .satisfies(e -> assertThat(((PasswordHashingBusyException) e).getRetryAfterSeconds()).isPositive());
+            assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        }
+    }
+
+    // Test 3: Response - A full queue is answered with 503 and Retry-After
+    @Test
+    void testBusyResponse()
+    {
+        ResponseEntity<Map<String, String>> response =
+                new ApiExceptionHandler().handlePasswordHashingBusy(new PasswordHashingBusyException(3));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+    }
+}
+
+//***************************************************************************************
@@ -9,27 +9,53 @@
 
 package mcckyle.gratitudejournal.gratitudejournal;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import mcckyle.gratitudejournal.gratitudejournal.controller.CalendarEntryController;
 import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryDTO;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryPage;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntrySummary;
+import mcckyle.gratitudejournal.gratitudejournal.dto.ImportResult;
+import mcckyle.gratitudejournal.gratitudejournal.dto.SearchHit;
+import mcckyle.gratitudejournal.gratitudejournal.dto.StreakStats;
+import mcckyle.gratitudejournal.gratitudejournal.dto.YearHeatmap;
 import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsImpl;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarHeatmapService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarImportService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarResponseCache;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarSearchService;
 import mcckyle.gratitudejournal.gratitudejournal.service.CalendarService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 //***************************************************************************************
 
@@ -42,8 +68,30 @@ class CalendarEntryControllerTests
     @Mock
     private CalendarService service; // Mock the CalendarService
 
+    @Mock
+    private CalendarImportService importService;
+
+    @Mock
+    private CalendarSearchService searchService;
+
+    @Mock
+    private CalendarHeatmapService heatmapService;
+
+    @Mock
+    private CalendarStatsService statsService;
+
+    // Real cache so list responses go through serialization, ETags and compression.
+    @Spy
+    private CalendarResponseCache responseCache = new CalendarResponseCache(objectMapper, 1 << 20);
+
     private CalendarEntry sampleEntry;
 
+    private CalendarEntrySummary sampleSummary;
+
+    private Authentication authentication;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
     @BeforeEach
     void setUp()
     {
@@ -54,6 +102,17 @@ class CalendarEntryControllerTests
         sampleEntry.setContent("Sample Content");
         sampleEntry.setEntryDate(LocalDate.now());
         sampleEntry.setUserId(123);
+        sampleSummary = new CalendarEntrySummary(1, "Sample Title", sampleEntry.getEntryDate());
+
+        // Authenticated principal for user 123
+        UserDetailsImpl principal = new UserDetailsImpl(123, "sampleUser", "sample@example.com", "password", null, List.of());
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private static JsonNode readPage(ResponseEntity<byte[]> response) throws IOException
+    {
+        assertThat(response.getBody()).isNotNull();
+        return objectMapper.readTree(response.getBody());
     }
 
     private CalendarEntryDTO buildDTOFromEntry(CalendarEntry entry)
@@ -61,33 +120,34 @@ class CalendarEntryControllerTests
         CalendarEntryDTO dto = new CalendarEntryDTO();
         dto.title = entry.getTitle();
         dto.content = entry.getContent();
-        dto.userId = entry.getUserId();
         dto.entryDate = entry.getEntryDate().toString();
         return dto;
     }
 
     // Test 1: Controller - Get entries endpoint
     @Test
-    void testControllerGetEntries()
+    void testControllerGetEntries() throws Exception
     {
-        // Arrange: Prepare a sample list of entries
-        List<CalendarEntry> entries = new ArrayList<>();
-        entries.add(sampleEntry);
+        // Arrange: Prepare a sample list of entry summaries
+        List<CalendarEntrySummary> entries = new ArrayList<>();
+        entries.add(sampleSummary);
 
-        // Mock the service call to return the prepared list
-        when(service.getEntriesByUserId(123)).thenReturn(entries);
+        // Mock the service call to return the prepared page
+        when(service.getEntriesPage(123, null, null, null, 50)).thenReturn(new CalendarEntryPage<>(entries, null));
 
         // Act: Call the controller method
-        ResponseEntity<List<CalendarEntry>> response = controller.getEntriesByUserId(123);
+        ResponseEntity<byte[]> response = controller.getEntries(authentication, null, null, null, 50, null, null);
 
         // Assert: Check the response status and body
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).hasSize(1);
-        assertThat(response.getBody().get(0).getTitle()).isEqualTo(sampleEntry.getTitle());
+        JsonNode page = readPage(response);
+        assertThat(page.get("entries")).hasSize(1);
+        assertThat(page.get("entries").get(0).get("title").asText()).isEqualTo(sampleEntry.getTitle());
+        assertThat(page.get("nextCursor").isNull()).isTrue();
+        assertThat(page.has("empty")).isFalse(); // Only the entries and the cursor are serialized
 
         // Verify: Ensure the service was called with the correct userId
-        verify(service).getEntriesByUserId(123);
+        verify(service).getEntriesPage(123, null, null, null, 50);
     }
 
 
@@ -99,7 +159,7 @@ class CalendarEntryControllerTests
 
         when(service.createEntry(any(CalendarEntry.class))).thenReturn(sampleEntry);
 
-		ResponseEntity<CalendarEntry> response = controller.createEntry(dto);
+		ResponseEntity<CalendarEntry> response = controller.createEntry(authentication, dto);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
         assertThat(response.getBody()).isNotNull();
@@ -112,25 +172,19 @@ class CalendarEntryControllerTests
     //Test if the controller returns the correct entry by its ID.
     @Test
     void testControllerGetEntryById() {
-        // Arrange: Mock the service to return a list of entries when called with a specific userId
-        List<CalendarEntry> entries = new ArrayList<>();
-        entries.add(sampleEntry); // Add your sample entry to the list
-
-        when(service.getEntriesByUserId(123)).thenReturn(entries); // Mock the service method
+        // Arrange: Mock the service to return the sample entry for this user and ID
+        when(service.getEntryById(123, 1)).thenReturn(Optional.of(sampleEntry)); // Mock the service method
 
-        // Act: Call the controller method to get entries by user ID
-        ResponseEntity<List<CalendarEntry>> response = controller.getEntriesByUserId(123);
+        // Act: Call the controller method to get the entry by ID
+        ResponseEntity<?> response = controller.getEntryById(authentication, 1);
 
-        // Assert: Check that the response status is OK and the list is not empty
+        // Assert: Check that the response status is OK and the body is the entry
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).hasSize(1); // Assuming it returns a single entry
-
-        // Access the first entry from the list and check its title
-        assertThat(response.getBody().get(0).getTitle()).isEqualTo(sampleEntry.getTitle());
+        assertThat(((CalendarEntry) response.getBody()).getTitle()).isEqualTo(sampleEntry.getTitle());
 
-        // Verify: Ensure the service was called with the correct userId
-        verify(service).getEntriesByUserId(123);
+        // Verify: Ensure the service was called with the correct userId and entryId
+        verify(service).getEntryById(123, 1);
     }
 
     //4. Controller - Get entry by ID Not Found
@@ -138,17 +192,17 @@ class CalendarEntryControllerTests
     @Test
     void testControllerGetEntryByIdNotFound()
     {
-        // Arrange: Mock the service to return an empty list when no entries are found for the user
-        when(service.getEntriesByUserId(123)).thenReturn(Collections.emptyList());
+        // Arrange: Mock the service to return an empty page when no entries are found for the user
+        when(service.getEntriesPage(123, null, null, null, 50)).thenReturn(new CalendarEntryPage<>(Collections.emptyList(), null));
 
-        // Act: Call the controller method to get entries by user ID
-        ResponseEntity<List<CalendarEntry>> response = controller.getEntriesByUserId(123);
+        // Act: Call the controller method to get entries for the user
+        ResponseEntity<byte[]> response = controller.getEntries(authentication, null, null, null, 50, null, null);
 
         // Assert: Ensure the response status is NO_CONTENT (204) when no entries are found
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
 
         // Verify: Ensure the service was called with the correct userId
-        verify(service).getEntriesByUserId(123);
+        verify(service).getEntriesPage(123, null, null, null, 50);
     }
 
     //5. Controller - Delete entry
@@ -158,16 +212,16 @@ class CalendarEntryControllerTests
     {
         // Arrange: Mock the service to throw ResponseStatusException when entry not found
         doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Calendar entry not found"))
-                .when(service).deleteEntry(101);
+                .when(service).deleteEntry(123, 101, null);
 
         // Act: Call the controller method to delete the entry
-        ResponseEntity<Void> response = controller.deleteEntry(101);
+        ResponseEntity<Void> response = controller.deleteEntry(authentication, 101, null);
 
         // Assert: Ensure the status is NOT_FOUND (404)
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
 
         // Verify: Ensure the service was called with the correct entryId
-        verify(service).deleteEntry(101);
+        verify(service).deleteEntry(123, 101, null);
     }
 
     //6. Controller - Delete entry Not Found
@@ -181,10 +235,10 @@ class CalendarEntryControllerTests
         CalendarEntryDTO dto = buildDTOFromEntry(sampleEntry);
 
         // Arrange: Mock the service to return the updated entry
-        when(service.updateEntry(eq(123), any(CalendarEntry.class))).thenReturn(sampleEntry);
+        when(service.updateEntry(eq(123), eq(1), any(CalendarEntry.class), isNull())).thenReturn(sampleEntry);
 
         // Act: Call the controller method to update the entry
-        ResponseEntity<CalendarEntry> response = controller.updateEntry(123, dto);
+        ResponseEntity<CalendarEntry> response = controller.updateEntry(authentication, 1, dto, null);
 
         // Assert: Check that the response status is OK (200) and the body is the updated entry
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -192,7 +246,7 @@ class CalendarEntryControllerTests
         assertThat(response.getBody().getTitle()).isEqualTo(sampleEntry.getTitle());
 
         // Verify: Ensure the service was called with the correct parameters
-        verify(service).updateEntry(eq(123), any(CalendarEntry.class));
+        verify(service).updateEntry(eq(123), eq(1), any(CalendarEntry.class), isNull());
     }
 
     //8. Controller - Update entry Not Found
@@ -202,17 +256,18 @@ class CalendarEntryControllerTests
     {
         CalendarEntryDTO dto = buildDTOFromEntry(sampleEntry);
 
-        // Arrange: Mock the service to return an empty Optional indicating the entry wasn't found
-        when(service.updateEntry(eq(123), any(CalendarEntry.class))).thenReturn(null);
+        // Arrange: Mock the service to signal that the entry wasn't found
+        when(service.updateEntry(eq(123), eq(1), any(CalendarEntry.class), isNull()))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Entry not found"));
 
         // Act: Call the controller method
-        ResponseEntity<CalendarEntry> response = controller.updateEntry(123, dto);
+        ResponseEntity<CalendarEntry> response = controller.updateEntry(authentication, 1, dto, null);
 
         // Assert: Ensure the status is NOT_FOUND (404)
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
 
         // Verify: Ensure the service was called with the correct parameters
-        verify(service).updateEntry(eq(123), any(CalendarEntry.class));
+        verify(service).updateEntry(eq(123), eq(1), any(CalendarEntry.class), isNull());
     }
 
     //9. Controller - Handle Bad Request
@@ -221,7 +276,7 @@ class CalendarEntryControllerTests
     void testControllerBadRequest()
     {
         // Act: Directly call the controller with null input.
-        ResponseEntity<CalendarEntry> response = controller.createEntry(null);
+        ResponseEntity<CalendarEntry> response = controller.createEntry(authentication, null);
 
         // Assert: Should return BAD_REQUEST (400).
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
@@ -241,11 +296,194 @@ class CalendarEntryControllerTests
         when(service.createEntry(any(CalendarEntry.class))).thenThrow(new RuntimeException("Unexpected error"));
 
         // Act: Call the controller method
-        ResponseEntity<CalendarEntry> response = controller.createEntry(dto);
+        ResponseEntity<CalendarEntry> response = controller.createEntry(authentication, dto);
 
         // Assert: Ensure the status is INTERNAL_SERVER_ERROR (500)
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    //11. Controller - Get entries returns the next cursor
+    //Test if the controller passes the cursor through and returns the next one.
+    @Test
+    void testControllerGetEntriesNextCursor() throws Exception
+    {
+        when(service.getEntriesPage(123, null, null, "abc", 1)).thenReturn(new CalendarEntryPage<>(List.of(sampleSummary), "next"));
+
+        ResponseEntity<byte[]> response = controller.getEntries(authentication, null, null, "abc", 1, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(readPage(response).get("nextCursor").asText()).isEqualTo("next");
+    }
+
+    //12. Controller - Get entries with an invalid cursor
+    //Test if the controller returns BAD_REQUEST when the service rejects the cursor.
+    @Test
+    void testControllerGetEntriesInvalidCursor()
+    {
+        when(service.getEntriesPage(123, null, null, "bogus", 50)).thenThrow(new IllegalArgumentException("Invalid cursor."));
+
+        ResponseEntity<byte[]> response = controller.getEntries(authentication, null, null, "bogus", 50, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    //13. Controller - Get entries for a date range
+    //Test if the controller forwards the from/to range to the service.
+    @Test
+    void testControllerGetEntriesDateRange() throws Exception
+    {
+        LocalDate from = LocalDate.of(2025, 11, 1);
+        LocalDate to = LocalDate.of(2025, 11, 30);
+        when(service.getEntriesPage(123, from, to, null, 50)).thenReturn(new CalendarEntryPage<>(List.of(sampleSummary), null));
+
+        ResponseEntity<byte[]> response = controller.getEntries(authentication, from, to, null, 50, null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode page = readPage(response);
+        assertThat(page.get("entries")).hasSize(1);
+        assertThat(page.get("entries").get(0).get("entryDate").asText()).isEqualTo(sampleSummary.entryDate().toString());
+        verify(service).getEntriesPage(123, from, to, null, 50);
+    }
+
+    //14. Controller - Import entries
+    //Test if the controller streams the request body to the import service for the authenticated user.
+    @Test
+    void testControllerImportEntries() throws Exception
+    {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("[]".getBytes());
+        ImportResult result = new ImportResult();
+        result.addImported(3);
+        when(importService.importEntries(eq(123), any(InputStream.class))).thenReturn(result);
+
+        ResponseEntity<ImportResult> response = controller.importEntries(authentication, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getImported()).isEqualTo(3);
+    }
+
+    //15. Controller - Update entry with a stale If-Match
+    //Test if the controller passes the If-Match version to the service and returns PRECONDITION_FAILED when it is stale.
+    @Test
+    void testControllerUpdateEntryStaleVersion()
+    {
+        CalendarEntryDTO dto = buildDTOFromEntry(sampleEntry);
+        when(service.updateEntry(eq(123), eq(1), any(CalendarEntry.class), eq(7L)))
+                .thenThrow(new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Entry was modified"));
+
+        ResponseEntity<CalendarEntry> response = controller.updateEntry(authentication, 1, dto, "\"7\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    //16. Controller - Update entry returns the new ETag
+    //Test if the controller echoes the entry's new version as the ETag.
+    @Test
+    void testControllerUpdateEntryETag()
+    {
+        CalendarEntryDTO dto = buildDTOFromEntry(sampleEntry);
+        sampleEntry.setVersion(8L);
+        when(service.updateEntry(eq(123), eq(1), any(CalendarEntry.class), eq(7L))).thenReturn(sampleEntry);
+
+        ResponseEntity<CalendarEntry> response = controller.updateEntry(authentication, 1, dto, "\"7\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"8\"");
+    }
+
+    //17. Controller - Delete entry with an unrecognised If-Match
+    //Test if an If-Match value that is not one of our ETags can never match.
+    @Test
+    void testControllerDeleteEntryForeignETag()
+    {
+        doThrow(new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Entry was modified"))
+                .when(service).deleteEntry(123, 101, -1L);
+
+        ResponseEntity<Void> response = controller.deleteEntry(authentication, 101, "W/\"abc\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    //18. Controller - Get entries answers If-None-Match from the cache
+    //Test if a repeat request with the ETag gets NOT_MODIFIED without another service call.
+    @Test
+    void testControllerGetEntriesNotModified()
+    {
+        when(service.getEntriesPage(123, null, null, null, 50)).thenReturn(new CalendarEntryPage<>(List.of(sampleSummary), null));
+
+        ResponseEntity<byte[]> first = controller.getEntries(authentication, null, null, null, 50, null, null);
+        String eTag = first.getHeaders().getETag();
+        ResponseEntity<byte[]> second = controller.getEntries(authentication, null, null, null, 50, eTag, null);
+
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        verify(service, times(1)).getEntriesPage(123, null, null, null, 50);
+    }
+
+    //19. Controller - Get entries compressed
+    //Test if a client accepting gzip gets the cached compressed bytes and a distinct ETag.
+    @Test
+    void testControllerGetEntriesGzip() throws Exception
+    {
+        when(service.getEntriesPage(123, null, null, null, 50)).thenReturn(new CalendarEntryPage<>(List.of(sampleSummary), null));
+
+        ResponseEntity<byte[]> plain = controller.getEntries(authentication, null, null, null, 50, null, null);
+        ResponseEntity<byte[]> gzipped = controller.getEntries(authentication, null, null, null, 50, null, "gzip, deflate");
+
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders().getETag()).isNotEqualTo(plain.getHeaders().getETag());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody())))
+        {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getBody());
+        }
+    }
+
+    //20. Controller - Search entries
+    //Test if the controller forwards the query and returns BAD_REQUEST when the service rejects it.
+    @Test
+    void testControllerSearchEntries()
+    {
+        SearchHit hit = new SearchHit(1, "Sample Title", sampleEntry.getEntryDate(), "<mark>Sample</mark> Content", 0.5);
+        when(searchService.search(123, "sample", null, 50)).thenReturn(new CalendarEntryPage<>(List.of(hit), null));
+        when(searchService.search(123, " ", null, 50)).thenThrow(new IllegalArgumentException("Search query is required"));
+
+        ResponseEntity<CalendarEntryPage<SearchHit>> response = controller.searchEntries(authentication, "sample", null, 50);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getEntries()).containsExactly(hit);
+        assertThat(controller.searchEntries(authentication, " ", null, 50).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    //21. Controller - Get heatmap
+    //Test if the controller returns the service's counts for the requested year and rejects bad years.
+    @Test
+    void testControllerGetHeatmap()
+    {
+        YearHeatmap heatmap = new YearHeatmap(2025, 3, Map.of(LocalDate.of(2025, 11, 1), 3L));
+        when(heatmapService.getHeatmap(123, 2025)).thenReturn(heatmap);
+        when(heatmapService.getHeatmap(123, 0)).thenThrow(new IllegalArgumentException("Year is out of range"));
+
+        ResponseEntity<YearHeatmap> response = controller.getHeatmap(authentication, 2025);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(heatmap);
+        assertThat(controller.getHeatmap(authentication, 0).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    //22. Controller - Get stats
+    //Test if the controller returns the authenticated user's streak stats.
+    @Test
+    void testControllerGetStats()
+    {
+        StreakStats stats = new StreakStats(3, 10, LocalDate.of(2025, 11, 26), 42);
+        when(statsService.getStats(123)).thenReturn(stats);
+
+        ResponseEntity<StreakStats> response = controller.getStats(authentication);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(stats);
+    }
 }
 
 //***************************************************************************************
\ No newline at end of file
@@ -0,0 +1,194 @@
+//***************************************************************************************
+//
+//     Filename: CalendarEntryQueryCountTests.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file pins the SQL statements each calendar endpoint runs.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mcckyle.gratitudejournal.gratitudejournal.config.QueryCounter;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import mcckyle.gratitudejournal.gratitudejournal.repository.UserRepository;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+//***************************************************************************************
+
+//Runs the calendar endpoints against an in-memory H2 database with the statement budget set
+//to fail, and pins how many SQL statements each one issues, so an N+1 shows up as a failure.
+@SpringBootTest(properties = {
+        "jwt.secret=0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef",
+        "jwt.expirationMs=60000",
+        "app.jpa.query-budget.max-statements=10",
+        "app.jpa.query-budget.mode=fail",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "calendar.import.chunk-size=50"
+})
+@AutoConfigureMockMvc
+class CalendarEntryQueryCountTests
+{
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserDetailsImpl principal;
+
+    @BeforeEach
+    void setUp()
+    {
+        String name = "user-" + UUID.randomUUID();
+        User user = userRepository.save(new User(name, name + "@example.com", "hash"));
+        principal = new UserDetailsImpl(user.getId(), name, user.getEmail(), "hash", null, List.of());
+    }
+
+    //Performs the request as the test user; QueryCounter then holds the statements it ran.
+    private MvcResult perform(MockHttpServletRequestBuilder request, int expectedStatus) throws Exception
+    {
+        RequestBuilder authenticated = request.with(authentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())));
+
+        MvcResult result = mockMvc.perform(authenticated).andReturn();
+        assertThat(result.getResponse().getStatus()).isEqualTo(expectedStatus);
+        return result;
+    }
+
+    private static String entryJson(String title, String entryDate)
+    {
+        return "{\"title\":\"" + title + "\",\"content\":\"Grateful\",\"entryDate\":\"" + entryDate + "\"}";
+    }
+
+    private int createEntry(String title, String entryDate) throws Exception
+    {
+        MvcResult result = perform(post("/api/calendar").contentType(MediaType.APPLICATION_JSON).content(entryJson(title, entryDate)), 201);
+        JsonNode created = objectMapper.readTree(result.getResponse().getContentAsString());
+        return created.get("id").asInt();
+    }
+
+    // Test 1: Create - Entry id, entry row and body row; the user's stats are updated in SQL
+    @Test
+    void testCreateStatements() throws Exception
+    {
+        createEntry("Walk", "2026-10-18");
+        assertThat(QueryCounter.count()).isEqualTo(3);
+
+        createEntry("Run", "2026-10-17");
+        assertThat(QueryCounter.count()).isEqualTo(3);
+    }
+
+    // Test 2: Reads - The list is one query however many entries there are, then served from cache
+    @Test
+    void testReadStatements() throws Exception
+    {
+        int id = 0;
+        for (int day = 10; day < 16; day++)
+        {
+            id = createEntry("Entry " + day, "2026-10-" + day);
+        }
+
+        perform(get("/api/calendar"), 200);
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
+        perform(get("/api/calendar"), 200);
+        assertThat(QueryCounter.count()).isZero();
+
+        perform(get("/api/calendar/" + id), 200);
+        assertThat(QueryCounter.count()).isEqualTo(2);
+
+        perform(get("/api/calendar/heatmap").param("year", "2026"), 200);
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
+        perform(get("/api/calendar/stats"), 200);
+        assertThat(QueryCounter.count()).isEqualTo(6);
+    }
+
+    // Test 3: Writes - Update and delete are single keyed entry statements, without loading the entry
+    // first. An edit on the same day leaves the stats row clean, so the next read is one query
+    @Test
+    void testWriteStatements() throws Exception
+    {
+        int id = createEntry("Walk", "2026-10-18");
+        perform(get("/api/calendar/stats"), 200);
+
+        MvcResult updated = perform(put("/api/calendar/" + id).contentType(MediaType.APPLICATION_JSON).content(entryJson("Run", "2026-10-18")), 200);
+        assertThat(QueryCounter.count()).isEqualTo(3);
+        assertThat(updated.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"1\""); //Returned by the update, with no If-Match.
+
+        perform(get("/api/calendar/stats"), 200);
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
+        perform(put("/api/calendar/" + id).contentType(MediaType.APPLICATION_JSON).content(entryJson("Run", "2026-10-17")), 200);
+        assertThat(QueryCounter.count()).isEqualTo(3);
+
+        perform(get("/api/calendar/stats"), 200);
+        assertThat(QueryCounter.count()).isEqualTo(5); //Moved to another day, so the row is rebuilt.
+
+        perform(delete("/api/calendar/" + id), 204);
+        assertThat(QueryCounter.count()).isEqualTo(2);
+    }
+
+    //Where the pooled id sequence stands; read through JDBC, so QueryCounter does not see it.
+    private long sequenceValue()
+    {
+        return jdbcTemplate.queryForObject("SELECT base_value FROM information_schema.sequences " +
+                "WHERE LOWER(sequence_name) = 'calendar_entries_seq'", Long.class);
+    }
+
+    // Test 4: Import - Each chunk of 50 rows is one batched insert per table, not one per row.
+    // Ids come from the pooled sequence, one call per 50; how many calls depends on where the
+    // pool stands, so they are counted from the sequence and taken out of the total
+    @Test
+    void testImportStatements() throws Exception
+    {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+        {
+            ndjson.append(entryJson("Entry " + i, "2026-10-18")).append('\n');
+        }
+
+        long sequenceBefore = sequenceValue();
+        MvcResult result = perform(post("/api/calendar/import").contentType(MediaType.APPLICATION_NDJSON).content(ndjson.toString()), 200);
+        long sequenceCalls = (sequenceValue() - sequenceBefore) / CalendarEntry.ID_ALLOCATION_SIZE;
+
+        assertThat(objectMapper.readTree(result.getResponse().getContentAsString()).get("imported").asInt()).isEqualTo(100);
+        int inserts = QueryCounter.count() - (int) sequenceCalls - 1; //One update of the stats row.
+        assertThat(inserts).isEqualTo(4); //2 chunks x (calendar_entries + entry_bodies).
+    }
+}
+
+//***************************************************************************************
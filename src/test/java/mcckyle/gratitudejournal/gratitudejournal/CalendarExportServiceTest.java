@@ -0,0 +1,137 @@
+//***************************************************************************************
+//
+//     Filename: CalendarExportServiceTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the CalendarExportService.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class CalendarExportServiceTest
+{
+    @Mock
+    private CalendarEntryRepository repository;
+
+    private CalendarExportService service;
+
+    private List<CalendarEntry> entries;
+
+    @BeforeEach
+    void setUp()
+    {
+        service = new CalendarExportService(repository, new ObjectMapper().registerModule(new JavaTimeModule()));
+
+        entries = List.of(
+                new CalendarEntry(1, "Plain", "Grateful for coffee", LocalDate.of(2025, 11, 1), 7),
+                new CalendarEntry(2, "Quoted, \"title\"", "Line one\nLine two", LocalDate.of(2025, 11, 2), 7)
+        );
+    }
+
+    // Test 1: NDJSON - One JSON object per line
+    @Test
+    void testExportNdjson() throws Exception
+    {
+        when(repository.streamByUserId(7)).thenReturn(entries.stream());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportEntries(7, CalendarExportService.Format.NDJSON, out);
+
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        assertThat(ndjson).endsWith("}\n");
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}"));
+        assertThat(lines[0]).contains("\"title\":\"Plain\"").contains("\"entryDate\":\"2025-11-01\"");
+        assertThat(lines[1]).contains("\"content\":\"Line one\\nLine two\"");
+    }
+
+    // Test 2: CSV - Fields with separators, quotes and line breaks are quoted
+    @Test
+    void testExportCsvEscaping() throws Exception
+    {
+        when(repository.streamByUserId(7)).thenReturn(entries.stream());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportEntries(7, CalendarExportService.Format.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,entryDate,title,content\r\n" +
+                "1,2025-11-01,Plain,Grateful for coffee\r\n" +
+                "2,2025-11-02,\"Quoted, \"\"title\"\"\",\"Line one\nLine two\"\r\n");
+    }
+
+    // Test 3: ZIP - One text file per entry
+    @Test
+    void testExportZip() throws Exception
+    {
+        when(repository.streamByUserId(7)).thenReturn(entries.stream());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportEntries(7, CalendarExportService.Format.ZIP, out);
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray())))
+        {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry())
+            {
+                names.add(entry.getName());
+            }
+        }
+
+        assertThat(names).containsExactly("journal/2025-11-01-1.txt", "journal/2025-11-02-2.txt");
+    }
+
+    // Test 4: The database stream is closed once the export finishes
+    @Test
+    void testExportClosesStream() throws Exception
+    {
+        boolean[] closed = {false};
+        when(repository.streamByUserId(7)).thenReturn(Stream.<CalendarEntry>empty().onClose(() -> closed[0] = true));
+
+        service.exportEntries(7, CalendarExportService.Format.CSV, new ByteArrayOutputStream());
+
+        assertThat(closed[0]).isTrue();
+    }
+
+    // Test 5: Unknown formats are rejected
+    @Test
+    void testUnknownFormat()
+    {
+        assertThat(CalendarExportService.Format.from("Csv")).isEqualTo(CalendarExportService.Format.CSV);
+        assertThatThrownBy(() -> CalendarExportService.Format.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,109 @@
+//***************************************************************************************
+//
+//     Filename: CalendarHeatmapServiceTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the CalendarHeatmapService.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.dto.DayCount;
+import mcckyle.gratitudejournal.gratitudejournal.dto.YearHeatmap;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarHeatmapService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class CalendarHeatmapServiceTest
+{
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate DEC_31 = LocalDate.of(2025, 12, 31);
+
+    @Mock
+    private CalendarEntryRepository repository;
+
+    private CalendarHeatmapService service;
+
+    @BeforeEach
+    void setUp()
+    {
+        service = new CalendarHeatmapService(repository, 1000);
+    }
+
+    // Test 1: Counts - Days map to their counts and the total adds them up
+    @Test
+    void testHeatmapCounts()
+    {
+        when(repository.countByDay(7, JAN_1, DEC_31)).thenReturn(List.of(
+                new DayCount(LocalDate.of(2025, 3, 1), 2),
+                new DayCount(LocalDate.of(2025, 3, 4), 1)));
+
+        YearHeatmap heatmap = service.getHeatmap(7, 2025);
+
+        assertThat(heatmap.year()).isEqualTo(2025);
+        assertThat(heatmap.total()).isEqualTo(3);
+        assertThat(heatmap.days()).containsExactly(
+                entry(LocalDate.of(2025, 3, 1), 2L),
+                entry(LocalDate.of(2025, 3, 4), 1L));
+    }
+
+    // Test 2: Cache - A year is queried once until the user writes again
+    @Test
+    void testHeatmapCachedUntilInvalidated()
+    {
+        when(repository.countByDay(7, JAN_1, DEC_31)).thenReturn(List.of());
+
+        service.getHeatmap(7, 2025);
+        service.getHeatmap(7, 2025);
+        verify(repository, times(1)).countByDay(7, JAN_1, DEC_31);
+
+        service.invalidate(7);
+        service.getHeatmap(7, 2025);
+        verify(repository, times(2)).countByDay(7, JAN_1, DEC_31);
+    }
+
+    // Test 3: Validation - Years outside 1..9999 are rejected
+    @Test
+    void testHeatmapYearOutOfRange()
+    {
+        assertThatThrownBy(() -> service.getHeatmap(7, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getHeatmap(7, 10000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Test 4: Cache - Invalidating one user leaves other users' years cached
+    @Test
+    void testInvalidateIsPerUser()
+    {
+        when(repository.countByDay(7, JAN_1, DEC_31)).thenReturn(List.of());
+        when(repository.countByDay(8, JAN_1, DEC_31)).thenReturn(List.of());
+
+        service.getHeatmap(7, 2025);
+        service.getHeatmap(8, 2025);
+        service.invalidate(7);
+        service.getHeatmap(7, 2025);
+        service.getHeatmap(8, 2025);
+
+        verify(repository, times(2)).countByDay(7, JAN_1, DEC_31);
+        verify(repository, times(1)).countByDay(8, JAN_1, DEC_31);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,195 @@
+//***************************************************************************************
+//
+//     Filename: CalendarImportServiceTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the CalendarImportService.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import mcckyle.gratitudejournal.gratitudejournal.dto.ImportResult;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarImportService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class CalendarImportServiceTest
+{
+    private static ValidatorFactory validatorFactory;
+
+    @Mock
+    private CalendarEntryRepository repository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CalendarService calendarService;
+
+    @BeforeAll
+    static void setUpValidator()
+    {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterAll
+    static void closeValidator()
+    {
+        validatorFactory.close();
+    }
+
+    private CalendarImportService service;
+
+    @BeforeEach
+    void setUp()
+    {
+        service = serviceWithChunkSize(500);
+    }
+
+    private CalendarImportService serviceWithChunkSize(int chunkSize)
+    {
+        return new CalendarImportService(repository, new ObjectMapper(), validatorFactory.getValidator(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), entityManager, calendarService, chunkSize);
+    }
+
+    private static InputStream body(String json)
+    {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String row(int i)
+    {
+        return "{\"title\":\"Entry " + i + "\",\"content\":\"Grateful for day " + i + "\",\"entryDate\":\"2025-11-01\"}";
+    }
+
+    // Test 1: JSON array - Every row is saved for the user
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportJsonArray() throws Exception
+    {
+        ImportResult result = service.importEntries(7, body("[" + row(1) + "," + row(2) + "]"));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isZero();
+
+        ArgumentCaptor<List<CalendarEntry>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(CalendarEntry::getTitle).containsExactly("Entry 1", "Entry 2");
+        assertThat(saved.getValue()).allMatch(entry -> entry.getUserId().equals(7)
+                && entry.getEntryDate().equals(LocalDate.of(2025, 11, 1)));
+    }
+
+    // Test 2: NDJSON - One object per line is accepted
+    @Test
+    void testImportNdjson() throws Exception
+    {
+        ImportResult result = service.importEntries(7, body(row(1) + "\n" + row(2) + "\n" + row(3) + "\n"));
+
+        assertThat(result.getImported()).isEqualTo(3);
+        verify(repository).saveAll(anyList());
+    }
+
+    // Test 3: Invalid rows - Skipped and reported by row number, valid rows still saved
+    @Test
+    void testImportReportsInvalidRows() throws Exception
+    {
+        String json = "[" + row(1) + ","
+                + "{\"title\":\"\",\"content\":\"x\",\"entryDate\":\"2025-11-01\"},"
+                + "{\"title\":\"Bad date\",\"content\":\"x\",\"entryDate\":\"2025-02-30\"},"
+                + row(4) + "]";
+
+        ImportResult result = service.importEntries(7, body(json));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::row).containsExactly(2, 3);
+        assertThat(result.getErrors().get(0).messages()).anyMatch(message -> message.startsWith("title"));
+        assertThat(result.getErrors().get(1).messages()).containsExactly("entryDate: not a valid date");
+    }
+
+    // Test 4: Chunking - One saveAll and one persistence-context clear per chunk
+    @Test
+    void testImportSavesInChunks() throws Exception
+    {
+        service = serviceWithChunkSize(2);
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 1; i <= 5; i++)
+        {
+            ndjson.append(row(i)).append('\n');
+        }
+
+        ImportResult result = service.importEntries(7, body(ndjson.toString()));
+
+        assertThat(result.getImported()).isEqualTo(5);
+        verify(repository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).clear();
+        verify(calendarService).entriesImported(7, 5);
+    }
+
+    // Test 5: Malformed JSON - Rows before the error are kept and the error is reported
+    @Test
+    void testImportStopsAtMalformedJson() throws Exception
+    {
+        ImportResult result = service.importEntries(7, body(row(1) + "\n{\"title\": oops}\n" + row(3)));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors().get(0).row()).isEqualTo(2);
+        assertThat(result.getErrors().get(0).messages().get(0)).startsWith("Malformed JSON");
+    }
+
+    // Test 6: Empty body - Nothing is saved
+    @Test
+    void testImportEmptyArray() throws Exception
+    {
+        ImportResult result = service.importEntries(7, body("[]"));
+
+        assertThat(result.getImported()).isZero();
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    // Test 7: Malformed JSON - Garbage between two rows is charged to the row it would have started
+    @Test
+    void testImportGarbageBetweenRows() throws Exception
+    {
+        ImportResult result = service.importEntries(7, body(row(1) + "\n@@ not json @@\n" + row(3)));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::row).containsExactly(2);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,97 @@
+//***************************************************************************************
+//
+//     Filename: CalendarResponseCacheTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the CalendarResponseCache.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryPage;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntrySummary;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarResponseCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//***************************************************************************************
+
+class CalendarResponseCacheTest
+{
+    private CalendarResponseCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp()
+    {
+        cache = new CalendarResponseCache(new ObjectMapper().registerModule(new JavaTimeModule()), 1 << 20);
+        loads = new AtomicInteger();
+    }
+
+    private CalendarEntryPage<CalendarEntrySummary> load(String title)
+    {
+        loads.incrementAndGet();
+        return new CalendarEntryPage<>(List.of(new CalendarEntrySummary(1, title, LocalDate.of(2025, 11, 1))), null);
+    }
+
+    // Test 1: Hit - The second request for the same user and query is served without loading
+    @Test
+    void testRepeatRequestIsCached()
+    {
+        CalendarResponseCache.CachedResponse first = cache.get(7, "q", () -> load("A"));
+        CalendarResponseCache.CachedResponse second = cache.get(7, "q", () -> load("A"));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("\"title\":\"A\"");
+    }
+
+    // Test 2: Invalidate - A write makes the next request reload, with a new ETag when the body changed
+    @Test
+    void testInvalidateReloads()
+    {
+        CalendarResponseCache.CachedResponse before = cache.get(7, "q", () -> load("A"));
+        cache.invalidate(7);
+        CalendarResponseCache.CachedResponse after = cache.get(7, "q", () -> load("B"));
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(after.eTag(false)).isNotEqualTo(before.eTag(false));
+        assertThat(before.matches(before.eTag(false))).isTrue();
+        assertThat(after.matches(before.eTag(false))).isFalse();
+    }
+
+    // Test 3: Isolation - Invalidating one user leaves another user's pages cached
+    @Test
+    void testInvalidateIsPerUser()
+    {
+        cache.get(7, "q", () -> load("A"));
+        cache.get(8, "q", () -> load("A"));
+        cache.invalidate(7);
+        cache.get(8, "q", () -> load("A"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    // Test 4: Empty page - Cached as empty with no ETag to match
+    @Test
+    void testEmptyPage()
+    {
+        CalendarResponseCache.CachedResponse empty = cache.get(7, "q", () -> new CalendarEntryPage<>(List.of(), null));
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.matches("*")).isFalse();
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,142 @@
+//***************************************************************************************
+//
+//     Filename: CalendarSearchServiceTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the CalendarSearchService fallback index.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryPage;
+import mcckyle.gratitudejournal.gratitudejournal.dto.SearchHit;
+import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class CalendarSearchServiceTest
+{
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CalendarEntryRepository repository;
+
+    private CalendarSearchService service;
+
+    private List<CalendarEntry> entries;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp()
+    {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        service = new CalendarSearchService(jdbcTemplate, repository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        service.detectDatabase();
+
+        entries = List.of(
+                new CalendarEntry(1, "Morning coffee", "Grateful for a quiet coffee before work.", LocalDate.of(2025, 11, 1), 7),
+                new CalendarEntry(2, "Family dinner", "Dinner with family, then coffee & <cake>.", LocalDate.of(2025, 11, 2), 7),
+                new CalendarEntry(3, "Walk", "A long walk in the park with the dog.", LocalDate.of(2025, 11, 3), 7)
+        );
+    }
+
+    // Test 1: Ranking - Title matches rank above content-only matches
+    @Test
+    void testTitleMatchRanksFirst()
+    {
+        when(repository.streamByUserId(7)).thenReturn(entries.stream());
+
+        CalendarEntryPage<SearchHit> page = service.search(7, "Coffee", null, 10);
+
+        assertThat(page.getEntries()).extracting(SearchHit::id).containsExactly(1, 2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    // Test 2: Every term must match
+    @Test
+    void testAllTermsRequired()
+    {
+        when(repository.streamByUserId(7)).thenReturn(entries.stream());
+
+        assertThat(service.search(7, "coffee family", null, 10).getEntries()).extracting(SearchHit::id).containsExactly(2);
+        assertThat(service.search(7, "coffee dog", null, 10).getEntries()).isEmpty();
+    }
+
+    // Test 3: Snippets - Content is HTML-escaped and matches are wrapped in <mark>
+    @Test
+    void testSnippetIsEscapedAndHighlighted()
+    {
+        when(repository.streamByUserId(7)).thenReturn(entries.stream());
+
+        SearchHit hit = service.search(7, "cake", null, 10).getEntries().get(0);
+
+        assertThat(hit.snippet()).isEqualTo("Dinner with family, then coffee &amp; &lt;<mark>cake</mark>&gt;.");
+    }
+
+    // Test 4: Pagination - The cursor carries the offset of the next page
+    @Test
+    void testPagination()
+    {
+        when(repository.streamByUserId(7)).thenReturn(entries.stream());
+
+        CalendarEntryPage<SearchHit> first = service.search(7, "coffee", null, 1);
+        CalendarEntryPage<SearchHit> second = service.search(7, "coffee", first.getNextCursor(), 1);
+
+        assertThat(first.getEntries()).extracting(SearchHit::id).containsExactly(1);
+        assertThat(first.getNextCursor()).isEqualTo("1");
+        assertThat(second.getEntries()).extracting(SearchHit::id).containsExactly(2);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    // Test 5: The index is built once per user and rebuilt after a write
+    @Test
+    @SuppressWarnings("unchecked")
+    void testIndexRebuiltAfterInvalidate()
+    {
+        when(repository.streamByUserId(7)).thenReturn(entries.stream(), entries.stream());
+
+        service.search(7, "coffee", null, 10);
+        service.search(7, "walk", null, 10);
+        service.invalidate(7);
+        service.search(7, "walk", null, 10);
+
+        verify(repository, times(2)).streamByUserId(7);
+    }
+
+    // Test 6: Invalid input - Blank queries and bad cursors are rejected
+    @Test
+    void testInvalidInput()
+    {
+        assertThatThrownBy(() -> service.search(7, "  ", null, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search(7, "coffee", "-5", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search(7, "coffee", "abc", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
+
+//***************************************************************************************
@@ -9,15 +9,27 @@
 
 package mcckyle.gratitudejournal.gratitudejournal;
 
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntryPage;
+import mcckyle.gratitudejournal.gratitudejournal.dto.CalendarEntrySummary;
 import mcckyle.gratitudejournal.gratitudejournal.model.CalendarEntry;
 import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarEntryCursor;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarHeatmapService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarResponseCache;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarSearchService;
 import mcckyle.gratitudejournal.gratitudejournal.service.CalendarService;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
@@ -28,6 +40,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,11 +51,25 @@ public class CalendarServiceTest
     @Mock
     private CalendarEntryRepository repository;
 
+    @Mock
+    private CalendarResponseCache responseCache;
+
+    @Mock
+    private CalendarSearchService searchService;
+
+    @Mock
+    private CalendarHeatmapService heatmapService;
+
+    @Mock
+    private CalendarStatsService statsService;
+
     @InjectMocks
     private CalendarService service;
 
     private CalendarEntry sampleEntry;
 
+    private CalendarEntrySummary sampleSummary;
+
     @BeforeEach
     void setUp()
     {
@@ -51,6 +79,7 @@ public class CalendarServiceTest
         sampleEntry.setTitle("Sample Title");
         sampleEntry.setContent("Sample Content");
         sampleEntry.setEntryDate(LocalDate.now());
+        sampleSummary = new CalendarEntrySummary(101, "Sample Title", sampleEntry.getEntryDate());
     }
 
     // Test 1: Service - Find entry by ID
@@ -79,6 +108,7 @@ public class CalendarServiceTest
         CalendarEntry savedEntry = service.createEntry(sampleEntry);
         assertThat(savedEntry).isNotNull();
         verify(repository).save(sampleEntry);
+        verify(statsService).entryCreated(1, sampleEntry.getEntryDate());
     }
 
     // Test 3: Service - Get all entries for a user
@@ -96,15 +126,17 @@ public class CalendarServiceTest
     @Test
     void testDeleteEntry()
     {
-        // Mock repository.existsById to return true
-        when(repository.existsById(1)).thenReturn(true);
+        // Mock the single-statement delete to report one affected row
+        when(repository.deleteByUserIdAndId(1, 101, null)).thenReturn(1);
 
         // Call deleteEntry method
-        service.deleteEntry(1);
+        service.deleteEntry(1, 101, null);
 
-        // Verify repository methods are called with the correct parameters
-        verify(repository).existsById(1);  // Ensure existsById was invoked
-        verify(repository).deleteById(1);  // Ensure deleteById was invoked
+        // Verify the delete ran without loading the entry first
+        verify(repository).deleteByUserIdAndId(1, 101, null);
+        verify(repository, never()).findByUserIdAndId(any(), any());
+        verify(responseCache).invalidate(1);  // Cached entry lists for the user are now stale
+        verify(statsService).entriesChanged(1, -1);
     }
 
     // Test 5: Service - Update entry
@@ -115,12 +147,21 @@ public class CalendarServiceTest
         updatedEntry.setId(1);
         updatedEntry.setTitle("Updated Title");
         updatedEntry.setContent("Updated Content");
+        updatedEntry.setEntryDate(LocalDate.of(2025, 11, 2));
 
-        when(repository.findById(1)).thenReturn(Optional.of(sampleEntry));
-        when(repository.save(any(CalendarEntry.class))).thenReturn(updatedEntry);
+        when(repository.updateByUserIdAndId(1, 101, "Updated Title", LocalDate.of(2025, 11, 2), 4L)).thenReturn(Optional.of(5L));
 
-        CalendarEntry result = service.updateEntry(1, updatedEntry);
+        CalendarEntry result = service.updateEntry(1, 101, updatedEntry, 4L);
         assertThat(result.getTitle()).isEqualTo("Updated Title");
+        assertThat(result.getId()).isEqualTo(101);
+        assertThat(result.getVersion()).isEqualTo(5L);
+
+        verify(repository).updateContent(101, "Updated Content");
+        verify(repository, never()).findByUserIdAndId(any(), any());
+        verify(statsService).entryMoving(1, 101, LocalDate.of(2025, 11, 2));  // Marks the stats dirty only if the day changed
+        verify(responseCache).invalidate(1);
+        verify(searchService).invalidate(1);
+        verify(heatmapService).invalidate(1);
     }
 
     // Test 6: Edge Case - Save entry with null fields
@@ -132,7 +173,8 @@ public class CalendarServiceTest
                 .isInstanceOf(IllegalArgumentException.class); // Custom validation needed
     }
 
-    //Test #7: Update Non-existent Entry. - Validate That Updating a Non-existent Entry Returns Null.
+    //Test #7: Update Non-existent Entry. - Validate That Updating a Non-existent Entry
+    // Throws A ResponseStatusException.
     @Test
     void testUpdateNonExistentEntry()
     {
@@ -140,12 +182,13 @@ public class CalendarServiceTest
         updatedEntry.setTitle("Non-existent");
         updatedEntry.setContent("Content");
 
-        when(repository.findById(999)).thenReturn(Optional.empty());
+        when(repository.updateByUserIdAndId(1, 999, "Non-existent", null, null)).thenReturn(Optional.empty());
 
-        CalendarEntry result = service.updateEntry(999, updatedEntry);
+        assertThatThrownBy(() -> service.updateEntry(1, 999, updatedEntry, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Entry not found"); //Should signal 404 if the entry does not exist.
 
-        assertThat(result).isNull(); //Should return null if the entry does not exist.
-        verify(repository).findById(999);
+        verify(repository, never()).updateContent(any(), any());
     }
 
     //Test #8: Delete Non-existent Entry. - Ensure That Attempting to Delete
@@ -153,13 +196,11 @@ public class CalendarServiceTest
     @Test
     void testDeleteNonExistentEntry()
     {
-        when(repository.existsById(999)).thenReturn(false);
+        when(repository.deleteByUserIdAndId(1, 999, null)).thenReturn(0);
 
-        assertThatThrownBy(() -> service.deleteEntry(999))
+        assertThatThrownBy(() -> service.deleteEntry(1, 999, null))
                 .isInstanceOf(ResponseStatusException.class)
-                .hasMessageContaining("Calendar entry not found");
-
-        verify(repository).existsById(999);
+                .hasMessageContaining("Entry not found");
     }
 
     //Test #9: Get Entries For User With No Entries. -
@@ -196,4 +237,124 @@ public class CalendarServiceTest
 
         verify(repository).save(futureEntry);
     }
+
+    //Test #11: Get Entries Page. - Ensure That A Full Page Returns A Cursor
+    //Pointing At Its Last Entry.
+    @Test
+    void testGetEntriesPageReturnsNextCursor()
+    {
+        Window<CalendarEntrySummary> window = Window.from(List.of(sampleSummary), ScrollPosition::offset, true);
+        when(repository.findByUserIdOrderByEntryDateDescIdDesc(eq(1), any(ScrollPosition.class), eq(Limit.of(1))))
+                .thenReturn(window);
+
+        CalendarEntryPage<CalendarEntrySummary> page = service.getEntriesPage(1, null, null, null, 1);
+
+        assertThat(page.getEntries()).containsExactly(sampleSummary);
+        assertThat(page.getNextCursor())
+                .isEqualTo(CalendarEntryCursor.encode(sampleEntry.getEntryDate(), sampleEntry.getId()));
+    }
+
+    //Test #12: Get Last Entries Page. - Ensure That The Last Page Has No Cursor.
+    @Test
+    void testGetEntriesPageLastPage()
+    {
+        Window<CalendarEntrySummary> window = Window.from(List.of(sampleSummary), ScrollPosition::offset, false);
+        when(repository.findByUserIdOrderByEntryDateDescIdDesc(eq(1), any(ScrollPosition.class), eq(Limit.of(200))))
+                .thenReturn(window);
+
+        CalendarEntryPage<CalendarEntrySummary> page = service.getEntriesPage(1, null, null, null, 1000); //Clamped to the maximum.
+
+        assertThat(page.getEntries()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    //Test #13: Get Entries In A Date Range. - Ensure That A From/To Range Uses The Range Query
+    //And That An Incomplete Or Inverted Range Is Rejected.
+    @Test
+    void testGetEntriesPageDateRange()
+    {
+        LocalDate from = LocalDate.of(2025, 11, 1);
+        LocalDate to = LocalDate.of(2025, 11, 30);
+        Window<CalendarEntrySummary> window = Window.from(List.of(sampleSummary), ScrollPosition::offset, false);
+        when(repository.findByUserIdAndEntryDateBetweenOrderByEntryDateDescIdDesc(
+                eq(1), eq(from), eq(to), any(ScrollPosition.class), eq(Limit.of(50))))
+                .thenReturn(window);
+
+        CalendarEntryPage<CalendarEntrySummary> page = service.getEntriesPage(1, from, to, null, 50);
+
+        assertThat(page.getEntries()).containsExactly(sampleSummary);
+        assertThatThrownBy(() -> service.getEntriesPage(1, from, null, null, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getEntriesPage(1, to, from, null, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    //Test #14: Cursor Round Trip. - Ensure That A Cursor Decodes To The Keyset It Encoded.
+    @Test
+    void testCursorRoundTrip()
+    {
+        LocalDate date = LocalDate.of(2025, 11, 26);
+        KeysetScrollPosition position = CalendarEntryCursor.decode(CalendarEntryCursor.encode(date, 42));
+
+        assertThat(position.getKeys()).containsEntry("entryDate", date).containsEntry("id", 42);
+        assertThat(CalendarEntryCursor.decode(null).isInitial()).isTrue();
+        assertThatThrownBy(() -> CalendarEntryCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    //Test #15: Update With a Stale Version. - A version mismatch on an existing entry
+    //signals 412 rather than 404, and leaves the body untouched.
+    @Test
+    void testUpdateEntryStaleVersion()
+    {
+        CalendarEntry changes = new CalendarEntry("Title", "Content", LocalDate.of(2025, 11, 2), 1);
+
+        when(repository.updateByUserIdAndId(1, 101, "Title", LocalDate.of(2025, 11, 2), 3L)).thenReturn(Optional.empty());
+        when(repository.existsByUserIdAndId(1, 101)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.updateEntry(1, 101, changes, 3L))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+
+        verify(repository, never()).updateContent(any(), any());
+        verify(responseCache, never()).invalidate(any());
+    }
+
+    //Test #16: Delete With a Stale Version. - Signals 412 when the entry still exists.
+    @Test
+    void testDeleteEntryStaleVersion()
+    {
+        when(repository.deleteByUserIdAndId(1, 101, 3L)).thenReturn(0);
+        when(repository.existsByUserIdAndId(1, 101)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.deleteEntry(1, 101, 3L))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Entry was modified");
+    }
+
+    //Test #17: Bulk Import Finished. - The imported rows count towards the stats and every
+    //derived view of the user's entries is dropped.
+    @Test
+    void testEntriesImported()
+    {
+        service.entriesImported(1, 250);
+
+        verify(statsService).entriesChanged(1, 250);
+        verify(responseCache).invalidate(1);
+        verify(searchService).invalidate(1);
+        verify(heatmapService).invalidate(1);
+    }
+
+    //Test #18: Update Without If-Match. - The new version comes back from the update itself,
+    //so an unconditional edit still gets an ETag for the next conditional write.
+    @Test
+    void testUpdateEntryWithoutVersionReturnsNewVersion()
+    {
+        CalendarEntry changes = new CalendarEntry("Title", "Content", LocalDate.of(2025, 11, 2), 1);
+
+        when(repository.updateByUserIdAndId(1, 101, "Title", LocalDate.of(2025, 11, 2), null)).thenReturn(Optional.of(8L));
+
+        assertThat(service.updateEntry(1, 101, changes, null).getVersion()).isEqualTo(8L);
+        verify(repository, never()).findByUserIdAndId(any(), any());
+    }
 }
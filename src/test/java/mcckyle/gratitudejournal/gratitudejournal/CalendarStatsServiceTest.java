@@ -0,0 +1,140 @@
+//***************************************************************************************
+//
+//     Filename: CalendarStatsServiceTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the CalendarStatsService.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.dto.StreakStats;
+import mcckyle.gratitudejournal.gratitudejournal.model.UserStats;
+import mcckyle.gratitudejournal.gratitudejournal.repository.CalendarEntryRepository;
+import mcckyle.gratitudejournal.gratitudejournal.repository.UserStatsRepository;
+import mcckyle.gratitudejournal.gratitudejournal.service.CalendarStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class CalendarStatsServiceTest
+{
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 26);
+
+    @Mock
+    private UserStatsRepository statsRepository;
+
+    @Mock
+    private CalendarEntryRepository entryRepository;
+
+    private CalendarStatsService service;
+
+    @BeforeEach
+    void setUp()
+    {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        service = new CalendarStatsService(statsRepository, entryRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), clock);
+    }
+
+    private static UserStats stats(int current, int longest, LocalDate last, long total)
+    {
+        UserStats stats = new UserStats(7);
+        stats.setCurrentStreak(current);
+        stats.setLongestStreak(longest);
+        stats.setLastEntryDate(last);
+        stats.setTotalEntries(total);
+        return stats;
+    }
+
+    // Test 1: Incremental - An entry the day after the last one extends the streak
+    @Test
+    void testEntryCreatedExtendsStreak()
+    {
+        UserStats stats = stats(2, 2, TODAY.minusDays(1), 5);
+        when(statsRepository.lockByUserId(7)).thenReturn(Optional.of(stats));
+
+        service.entryCreated(7, TODAY);
+
+        assertThat(stats.getCurrentStreak()).isEqualTo(3);
+        assertThat(stats.getLongestStreak()).isEqualTo(3);
+        assertThat(stats.getLastEntryDate()).isEqualTo(TODAY);
+        assertThat(stats.getTotalEntries()).isEqualTo(6);
+        assertThat(stats.isDirty()).isFalse();
+    }
+
+    // Test 2: Incremental - A back-dated entry is counted but leaves the streaks for a repair
+    @Test
+    void testBackDatedEntryMarksDirty()
+    {
+        UserStats stats = stats(2, 4, TODAY, 5);
+        when(statsRepository.lockByUserId(7)).thenReturn(Optional.of(stats));
+
+        service.entryCreated(7, TODAY.minusDays(10));
+
+        assertThat(stats.getTotalEntries()).isEqualTo(6);
+        assertThat(stats.getCurrentStreak()).isEqualTo(2);
+        assertThat(stats.isDirty()).isTrue();
+    }
+
+    // Test 3: Read - A clean row is served as is, without touching the entries
+    @Test
+    void testGetStatsCleanRow()
+    {
+        when(statsRepository.findById(7)).thenReturn(Optional.of(stats(3, 8, TODAY.minusDays(1), 40)));
+
+        assertThat(service.getStats(7)).isEqualTo(new StreakStats(3, 8, TODAY.minusDays(1), 40));
+        verify(entryRepository, never()).findEntryDates(any());
+    }
+
+    // Test 4: Read - A streak whose last entry is older than yesterday is reported as broken
+    @Test
+    void testGetStatsBrokenStreak()
+    {
+        when(statsRepository.findById(7)).thenReturn(Optional.of(stats(3, 8, TODAY.minusDays(2), 40)));
+
+        StreakStats result = service.getStats(7);
+
+        assertThat(result.currentStreak()).isZero();
+        assertThat(result.longestStreak()).isEqualTo(8);
+    }
+
+    // Test 5: Repair - A missing row is rebuilt from the distinct entry dates
+    @Test
+    void testGetStatsRepairsMissingRow()
+    {
+        when(statsRepository.findById(7)).thenReturn(Optional.empty());
+        when(statsRepository.lockByUserId(7)).thenReturn(Optional.empty());
+        when(statsRepository.save(any(UserStats.class))).thenAnswer(returnsFirstArg());
+        when(entryRepository.findEntryDates(7)).thenReturn(List.of(
+                TODAY.minusDays(9), TODAY.minusDays(8), TODAY.minusDays(7), TODAY.minusDays(6),
+                TODAY.minusDays(2), TODAY.minusDays(1), TODAY));
+        when(entryRepository.countByUserId(7)).thenReturn(9L);
+
+        assertThat(service.getStats(7)).isEqualTo(new StreakStats(3, 4, TODAY, 9));
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,82 @@
+//***************************************************************************************
+//
+//     Filename: CalibratedPasswordEncodersTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the calibrated password encoders.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.security.CalibratedPasswordEncoders;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+//***************************************************************************************
+
+class CalibratedPasswordEncodersTest
+{
+    // Test 1: BCrypt - Each doubling of headroom adds one to the strength, within the bounds
+    @Test
+    void testBcryptStrength()
+    {
+        Duration target = Duration.ofMillis(100);
+
+        assertThat(CalibratedPasswordEncoders.bcryptStrength(Duration.ofMillis(10).toNanos(), target)).isEqualTo(11);
+        assertThat(CalibratedPasswordEncoders.bcryptStrength(Duration.ofMillis(3).toNanos(), target)).isEqualTo(13);
+        assertThat(CalibratedPasswordEncoders.bcryptStrength(Duration.ofMillis(90).toNanos(), target))
+                .isEqualTo(CalibratedPasswordEncoders.MIN_BCRYPT_STRENGTH);
+        assertThat(CalibratedPasswordEncoders.bcryptStrength(1, target))
+                .isEqualTo(CalibratedPasswordEncoders.MAX_BCRYPT_STRENGTH);
+    }
+
+    // Test 2: Argon2 - Iterations scale linearly with the headroom, within the bounds
+    @Test
+    void testArgon2Iterations()
+    {
+        Duration target = Duration.ofMillis(100);
+
+        assertThat(CalibratedPasswordEncoders.argon2Iterations(Duration.ofMillis(20).toNanos(), target)).isEqualTo(5);
+        assertThat(CalibratedPasswordEncoders.argon2Iterations(Duration.ofMillis(80).toNanos(), target))
+                .isEqualTo(CalibratedPasswordEncoders.MIN_ARGON2_ITERATIONS);
+    }
+
+    // Test 3: Upgrades - Legacy, weaker and other-algorithm hashes verify but are flagged for a rehash
+    @Test
+    void testUpgradeEncoding()
+    {
+        DelegatingPasswordEncoder encoder = CalibratedPasswordEncoders.create("bcrypt", Duration.ofMillis(1));
+
+        String current = encoder.encode("secret");
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret");
+        String pbkdf2 = "{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode("secret");
+
+        assertThat(current).startsWith("{bcrypt}$2a$10$");
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+
+        for (String hash : new String[] { legacy, weaker, pbkdf2 })
+        {
+            assertThat(encoder.matches("secret", hash)).isTrue();
+            assertThat(encoder.upgradeEncoding(hash)).isTrue();
+        }
+    }
+
+    // Test 4: Configuration - An unknown algorithm fails at startup
+    @Test
+    void testUnknownAlgorithm()
+    {
+        assertThatThrownBy(() -> CalibratedPasswordEncoders.create("md5", Duration.ofMillis(100)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,138 @@
+//***************************************************************************************
+//
+//     Filename: JwtAuthenticationFilterTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the JwtAuthenticationFilter.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.security.JwtAuthenticationFilter;
+import mcckyle.gratitudejournal.gratitudejournal.security.TokenEpochService;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsImpl;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsServiceImpl;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.TokenDenylist;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest
+{
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private final JwtTokenService tokenService = new JwtTokenService(SECRET, 60_000, 100);
+
+    private final TokenDenylist tokenDenylist = new TokenDenylist(1_000, 64, 100, Clock.systemUTC());
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    @AfterEach
+    void clearContext()
+    {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse filter(boolean claimsPrincipal, String token) throws Exception
+    {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenService, userDetailsService, tokenEpochService, tokenDenylist, claimsPrincipal);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/calendar");
+        request.setServletPath("/api/calendar");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    // Test 1: Claims mode - The principal comes from the token without loading the user
+    @Test
+    void testPrincipalFromClaims() throws Exception
+    {
+        String token = tokenService.generateJwtToken(42, "kyle", List.of(new SimpleGrantedAuthority("ROLE_USER")), 2);
+        when(tokenEpochService.isCurrent(42, 2)).thenReturn(true);
+
+        MockHttpServletResponse response = filter(true, token);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsImpl principal = (UserDetailsImpl) authentication.getPrincipal();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(principal.getId()).isEqualTo(42);
+        assertThat(principal.getUsername()).isEqualTo("kyle");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(userDetailsService, never()).loadUserById(any());
+    }
+
+    // Test 2: Database mode - The user is loaded when the mode is off
+    @Test
+    void testPrincipalFromDatabase() throws Exception
+    {
+        String token = tokenService.generateJwtToken(42, "kyle", List.of(), 0);
+        when(tokenEpochService.isCurrent(42, 0)).thenReturn(true);
+        when(userDetailsService.loadUserById(42))
+                .thenReturn(new UserDetailsImpl(42, "kyle", "kyle@example.com", "hash", null, List.of()));
+
+        filter(false, token);
+
+        verify(userDetailsService).loadUserById(42);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    // Test 3: Revocation - A token from an older epoch is rejected with 401
+    @Test
+    void testRevokedTokenRejected() throws Exception
+    {
+        String token = tokenService.generateJwtToken(42, "kyle", List.of(), 1);
+        when(tokenEpochService.isCurrent(42, 1)).thenReturn(false);
+
+        MockHttpServletResponse response = filter(true, token);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    // Test 4: Logout - A denylisted token is rejected with 401 while its epoch is still current
+    @Test
+    void testDenylistedTokenRejected() throws Exception
+    {
+        String token = tokenService.generateJwtToken(42, "kyle", List.of(), 0);
+        VerifiedToken verified = tokenService.verify(token).orElseThrow();
+        tokenDenylist.revoke(verified.jti(), verified.expiresAt());
+
+        MockHttpServletResponse response = filter(true, token);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,86 @@
+//***************************************************************************************
+//
+//     Filename: JwtTokenServiceTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the JwtTokenService.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//***************************************************************************************
+
+class JwtTokenServiceTest
+{
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private final JwtTokenService service = new JwtTokenService(SECRET, 60_000, 100);
+
+    // Test 1: Round trip - One verification yields every claim the filter needs
+    @Test
+    void testVerifyAccessToken()
+    {
+        String token = service.generateJwtToken(42, "kyle", List.of(new SimpleGrantedAuthority("ROLE_USER")), 3);
+
+        VerifiedToken verified = service.verify(token).orElseThrow();
+
+        assertThat(verified.userId()).isEqualTo(42);
+        assertThat(verified.username()).isEqualTo("kyle");
+        assertThat(verified.roles()).containsExactly("ROLE_USER");
+        assertThat(verified.jti()).isNotBlank();
+        assertThat(verified.tokenEpoch()).isEqualTo(3);
+        assertThat(verified.expiresAt()).isAfter(Instant.now());
+    }
+
+    // Test 2: Cache - The same token verified twice is served from the cache
+    @Test
+    void testVerifyCachesResult()
+    {
+        String token = service.generateJwtToken(42, "kyle", List.of(), 0);
+
+        VerifiedToken first = service.verify(token).orElseThrow();
+
+        assertThat(service.verify(token)).containsSame(first);
+    }
+
+    // Test 3: Rejection - Tampered, foreign-key, expired and blank tokens are not accepted
+    @Test
+    void testVerifyRejectsInvalidTokens()
+    {
+        String token = service.generateJwtToken(42, "kyle", List.of(), 0);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        JwtTokenService otherKey = new JwtTokenService(SECRET.replace('0', 'x'), 60_000, 100);
+        JwtTokenService expired = new JwtTokenService(SECRET, -1_000, 100);
+
+        assertThat(service.verify(tampered)).isEmpty();
+        assertThat(service.verify(otherKey.generateJwtToken(42, "kyle", List.of(), 0))).isEmpty();
+        assertThat(service.verify(expired.generateJwtToken(42, "kyle", List.of(), 0))).isEmpty();
+        assertThat(service.verify("not.a.token")).isEmpty();
+        assertThat(service.verify(null)).isEmpty();
+    }
+
+    // Test 4: Refresh token - Verifies with the subject, jti and epoch only
+    @Test
+    void testVerifyRefreshToken()
+    {
+        VerifiedToken verified = service.verify(service.generateRefreshToken(42, 3)).orElseThrow();
+
+        assertThat(verified.userId()).isEqualTo(42);
+        assertThat(verified.roles()).isEmpty();
+        assertThat(verified.jti()).isNotBlank();
+        assertThat(verified.tokenEpoch()).isEqualTo(3);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,131 @@
+//***************************************************************************************
+//
+//     Filename: LoginThrottleTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the LoginThrottle.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mcckyle.gratitudejournal.gratitudejournal.exception.LoginThrottledException;
+import mcckyle.gratitudejournal.gratitudejournal.security.LoginThrottle;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+//***************************************************************************************
+
+class LoginThrottleTest
+{
+    private final ManualClock clock = new ManualClock();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    //3 attempts per username refilling every 10s, 5 per address every 2s, lockouts from 1s to 8s.
+    private final LoginThrottle throttle = new LoginThrottle(meterRegistry, 1024, 3, 10_000, 5, 2_000, 3, 1_000, 8_000, 1_000, clock);
+
+    private double rejected(String reason)
+    {
+        return meterRegistry.get("auth.signin.rejected").tag("reason", reason).counter().count();
+    }
+
+    // Test 1: Username bucket - Attempts beyond the burst wait for the next token
+    @Test
+    void testUsernameBucket()
+    {
+        for (int i = 0; i < 3; i++)
+        {
+            throttle.checkAllowed("kyle", "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> throttle.checkAllowed("kyle", "10.0.0.9"))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isEqualTo(10));
+        assertThat(rejected("username_rate")).isEqualTo(1);
+
+        clock.advanceSeconds(10);
+        assertThatCode(() -> throttle.checkAllowed("kyle", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    // Test 2: Address bucket - One client spraying many usernames is cut off
+    @Test
+    void testAddressBucket()
+    {
+        for (int i = 0; i < 5; i++)
+        {
+            throttle.checkAllowed("user" + i, "203.0.113.7");
+        }
+
+        assertThatThrownBy(() -> throttle.checkAllowed("user5", "203.0.113.7"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> throttle.checkAllowed("user5", "198.51.100.1")).doesNotThrowAnyException();
+        assertThat(rejected("ip_rate")).isEqualTo(1);
+    }
+
+    // Test 3: Lockout - From the threshold on, each failure doubles the lockout up to the cap
+    @Test
+    void testExponentialLockout()
+    {
+        throttle.recordFailure("kyle");
+        throttle.recordFailure("kyle");
+        assertThatCode(() -> throttle.checkAllowed("kyle", "10.0.0.1")).doesNotThrowAnyException();
+
+        throttle.recordFailure("kyle"); //Third failure: 1s.
+        assertThatThrownBy(() -> throttle.checkAllowed("kyle", "10.0.0.1"))
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isEqualTo(1));
+
+        throttle.recordFailure("kyle"); //2s
+        throttle.recordFailure("kyle"); //4s
+        throttle.recordFailure("kyle"); //8s
+        throttle.recordFailure("kyle"); //Capped at 8s.
+        assertThatThrownBy(() -> throttle.checkAllowed("kyle", "10.0.0.1"))
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isEqualTo(8));
+        assertThat(rejected("locked")).isEqualTo(2);
+
+        clock.advanceSeconds(8);
+        assertThatCode(() -> throttle.checkAllowed("kyle", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    // Test 4: Recovery - A successful sign-in or the decay clears the failure count
+    @Test
+    void testSuccessAndDecayClearFailures()
+    {
+        throttle.recordFailure("kyle");
+        throttle.recordFailure("kyle");
+        throttle.recordSuccess("kyle");
+        throttle.recordFailure("kyle");
+        assertThatCode(() -> throttle.checkAllowed("kyle", "10.0.0.1")).doesNotThrowAnyException();
+
+        throttle.recordFailure("kyle");
+        throttle.decay(); //2 -> 1
+        throttle.recordFailure("kyle");
+        assertThatCode(() -> throttle.checkAllowed("kyle", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    // Test 5: Isolation - Usernames sharing a stripe neither lock nor unlock each other
+    @Test
+    void testLockoutsArePerUsername()
+    {
+        LoginThrottle shared = new LoginThrottle(meterRegistry, 1, 100, 10_000, 100, 2_000, 3, 1_000, 8_000, 1_000, clock);
+
+        for (int i = 0; i < 3; i++)
+        {
+            shared.recordFailure("victim");
+        }
+        assertThatThrownBy(() -> shared.checkAllowed("victim", "10.0.0.1")).isInstanceOf(LoginThrottledException.class);
+
+        //The sketch already counts three failures on the only stripe; one more must not lock alice.
+        shared.recordFailure("alice");
+        assertThatCode(() -> shared.checkAllowed("alice", "10.0.0.2")).doesNotThrowAnyException();
+
+        shared.recordSuccess("alice");
+        assertThatThrownBy(() -> shared.checkAllowed("victim", "10.0.0.1")).isInstanceOf(LoginThrottledException.class);
+    }
+}
+
+//***************************************************************************************
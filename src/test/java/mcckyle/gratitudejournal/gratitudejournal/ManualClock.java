@@ -0,0 +1,50 @@
+//***************************************************************************************
+//
+//     Filename: ManualClock.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains a clock that tests move by hand.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+//***************************************************************************************
+
+//Starts at START in UTC and only moves when a test advances it.
+final class ManualClock extends Clock
+{
+    static final Instant START = Instant.parse("2025-11-26T12:00:00Z");
+
+    private Instant now = START;
+
+    void advanceSeconds(long seconds)
+    {
+        now = now.plusSeconds(seconds);
+    }
+
+    @Override
+    public Instant instant()
+    {
+        return now;
+    }
+
+    @Override
+    public ZoneId getZone()
+    {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone)
+    {
+        return this;
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,92 @@
+//***************************************************************************************
+//
+//     Filename: PrometheusScrapeTests.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file checks which port serves Prometheus scrapes without a token.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//***************************************************************************************
+
+//Boots the application with actuator on its own management port, as in production. Tests
+//switch metrics export off by default, so the Prometheus registry is turned back on.
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef",
+        "jwt.expirationMs=60000",
+        "management.endpoints.web.exposure.include=health,metrics,prometheus"
+})
+class PrometheusScrapeTests
+{
+    private static final int MANAGEMENT_PORT = freePort();
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @DynamicPropertySource
+    static void managementPort(DynamicPropertyRegistry registry)
+    {
+        registry.add("management.server.port", () -> MANAGEMENT_PORT);
+    }
+
+    private static int freePort()
+    {
+        try (ServerSocket socket = new ServerSocket(0))
+        {
+            return socket.getLocalPort();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpStatus get(int port, String path)
+    {
+        return HttpStatus.valueOf(restTemplate.getForEntity("http://localhost:" + port + path, String.class).getStatusCode().value());
+    }
+
+    // Test 1: Scrape - The management port serves metrics in Prometheus format without a token
+    @Test
+    void testScrapeOnManagementPort()
+    {
+        ResponseEntity<String> response = restTemplate.getForEntity("http://localhost:" + MANAGEMENT_PORT + "/actuator/prometheus", String.class);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).contains("jvm_memory_used_bytes");
+    }
+
+    // Test 2: Scrape - Other actuator endpoints still need an admin, and the public port has no actuator
+    @Test
+    void testOtherEndpointsStayProtected()
+    {
+        assertThat(get(MANAGEMENT_PORT, "/actuator/metrics")).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(get(MANAGEMENT_PORT, "/actuator/health")).isEqualTo(HttpStatus.OK);
+        assertThat(get(serverPort, "/actuator/prometheus")).isNotEqualTo(HttpStatus.OK);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,89 @@
+//***************************************************************************************
+//
+//     Filename: TokenDenylistTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the TokenDenylist.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.TokenDenylist;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//***************************************************************************************
+
+class TokenDenylistTest
+{
+    private final ManualClock clock = new ManualClock();
+
+    // Test 1: Expiry - A revoked id is forgotten on the first sweep after its token expires
+    @Test
+    void testEntryExpiresWithToken()
+    {
+        TokenDenylist denylist = new TokenDenylist(1_000, 16, 100, clock);
+        denylist.revoke("a", ManualClock.START.plusSeconds(5));
+
+        clock.advanceSeconds(4);
+        denylist.advance();
+        assertThat(denylist.isRevoked("a")).isTrue();
+
+        clock.advanceSeconds(1);
+        denylist.advance();
+        assertThat(denylist.isRevoked("a")).isFalse();
+        assertThat(denylist.size()).isZero();
+    }
+
+    // Test 2: Rounds - Tokens living longer than one turn of the wheel survive earlier sweeps
+    @Test
+    void testEntryBeyondOneTurn()
+    {
+        TokenDenylist denylist = new TokenDenylist(1_000, 8, 100, clock);
+        denylist.revoke("refresh", ManualClock.START.plusSeconds(20));
+
+        for (int second = 1; second < 20; second++)
+        {
+            clock.advanceSeconds(1);
+            denylist.advance();
+            assertThat(denylist.isRevoked("refresh")).isTrue();
+        }
+
+        clock.advanceSeconds(1);
+        denylist.advance();
+        assertThat(denylist.isRevoked("refresh")).isFalse();
+    }
+
+    // Test 3: Catch-up - A late sweep still clears every slot it skipped
+    @Test
+    void testLateSweepCatchesUp()
+    {
+        TokenDenylist denylist = new TokenDenylist(1_000, 16, 100, clock);
+        denylist.revoke("a", ManualClock.START.plusSeconds(2));
+        denylist.revoke("b", ManualClock.START.plusSeconds(7));
+
+        clock.advanceSeconds(10);
+        denylist.advance();
+
+        assertThat(denylist.size()).isZero();
+    }
+
+    // Test 4: Capacity - A full store refuses new ids, and expired tokens are never stored
+    @Test
+    void testCapacityAndExpiredTokens()
+    {
+        TokenDenylist denylist = new TokenDenylist(1_000, 16, 2, clock);
+
+        assertThat(denylist.revoke("old", ManualClock.START.minusSeconds(1))).isTrue();
+        assertThat(denylist.isRevoked("old")).isFalse();
+
+        assertThat(denylist.revoke("a", ManualClock.START.plusSeconds(60))).isTrue();
+        assertThat(denylist.revoke("b", ManualClock.START.plusSeconds(60))).isTrue();
+        assertThat(denylist.revoke("c", ManualClock.START.plusSeconds(60))).isFalse();
+        assertThat(denylist.isRevoked(null)).isFalse();
+    }
+}
+
+//***************************************************************************************
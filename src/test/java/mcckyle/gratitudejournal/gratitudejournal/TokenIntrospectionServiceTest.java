@@ -0,0 +1,97 @@
+//***************************************************************************************
+//
+//     Filename: TokenIntrospectionServiceTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the TokenIntrospectionService.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.security.TokenEpochService;
+import mcckyle.gratitudejournal.gratitudejournal.security.TokenIntrospectionService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.JwtTokenService;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.TokenDenylist;
+import mcckyle.gratitudejournal.gratitudejournal.security.jwt.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class TokenIntrospectionServiceTest
+{
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private final JwtTokenService tokenService = new JwtTokenService(SECRET, 60_000, 100);
+
+    private final TokenDenylist tokenDenylist = new TokenDenylist(1_000, 64, 100, Clock.systemUTC());
+
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    private TokenIntrospectionService introspectionService;
+
+    @BeforeEach
+    void setUp()
+    {
+        introspectionService = new TokenIntrospectionService(tokenService, tokenDenylist, tokenEpochService);
+    }
+
+    // Test 1: Active - An access token is described by its claims
+    @Test
+    void testActiveAccessToken()
+    {
+        String token = tokenService.generateJwtToken(42, "kyle", List.of(new SimpleGrantedAuthority("ROLE_USER")), 3);
+        when(tokenEpochService.isCurrent(42, 3)).thenReturn(true);
+
+        Map<String, Object> result = introspectionService.describe(token);
+
+        assertThat(result)
+                .containsEntry("active", true)
+                .containsEntry("tokenType", "access")
+                .containsEntry("userId", 42)
+                .containsEntry("username", "kyle")
+                .containsEntry("roles", List.of("ROLE_USER"))
+                .containsKeys("jti", "exp");
+    }
+
+    // Test 2: Revoked - Logged-out tokens and tokens of deleted or re-keyed users are inactive
+    @Test
+    void testRevokedTokensInactive()
+    {
+        String loggedOut = tokenService.generateJwtToken(42, "kyle", List.of(), 0);
+        VerifiedToken verified = tokenService.verify(loggedOut).orElseThrow();
+        tokenDenylist.revoke(verified.jti(), verified.expiresAt());
+
+        String staleEpoch = tokenService.generateJwtToken(43, "alex", List.of(), 0);
+        when(tokenEpochService.isCurrent(43, 0)).thenReturn(false);
+
+        assertThat(introspectionService.describe(loggedOut)).containsExactly(Map.entry("active", false));
+        assertThat(introspectionService.describe(staleEpoch)).containsExactly(Map.entry("active", false));
+    }
+
+    // Test 3: Invalid - Garbage is inactive without consulting the epoch
+    @Test
+    void testInvalidTokenInactive()
+    {
+        assertThat(introspectionService.describe("not.a.token")).containsExactly(Map.entry("active", false));
+        assertThat(introspectionService.describe(null)).containsExactly(Map.entry("active", false));
+        verifyNoInteractions(tokenEpochService);
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,120 @@
+//***************************************************************************************
+//
+//     Filename: UserDetailsServiceImplTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for the cached UserDetailsServiceImpl.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserAccountChangedEvent;
+import mcckyle.gratitudejournal.gratitudejournal.security.UserDetailsServiceImpl;
+import mcckyle.gratitudejournal.gratitudejournal.service.UserRetrievalHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest
+{
+    @Mock
+    private UserRetrievalHelper userRetrievalHelper;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDetailsServiceImpl service;
+
+    @BeforeEach
+    void setUp()
+    {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new UserDetailsServiceImpl(userRetrievalHelper, meterRegistry, 100, 300);
+    }
+
+    private static User user(Integer id, String username, String password)
+    {
+        User user = new User(username, username + "@example.com", password);
+        user.setId(id);
+        return user;
+    }
+
+    // Test 1: By id - The user is loaded once and hits are counted
+    @Test
+    void testLoadUserByIdCached()
+    {
+        when(userRetrievalHelper.loadUserById(7)).thenReturn(user(7, "kyle", "hash"));
+
+        service.loadUserById(7);
+        service.loadUserById(7);
+
+        verify(userRetrievalHelper, times(1)).loadUserById(7);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    // Test 2: Invalidation - An account change drops the cached user
+    @Test
+    void testAccountChangeInvalidates()
+    {
+        when(userRetrievalHelper.loadUserById(7)).thenReturn(user(7, "kyle", "old"), user(7, "kyle", "new"));
+
+        assertThat(service.loadUserById(7).getPassword()).isEqualTo("old");
+        service.onUserAccountChanged(new UserAccountChangedEvent(7));
+
+        assertThat(service.loadUserById(7).getPassword()).isEqualTo("new");
+    }
+
+    // Test 3: By username - Logins are served from the cache until the user is renamed
+    @Test
+    void testLoadUserByUsernameCached()
+    {
+        when(userRetrievalHelper.findByUsername("kyle")).thenReturn(Optional.of(user(7, "kyle", "hash")));
+
+        service.loadUserByUsername("kyle");
+        service.loadUserByUsername("kyle");
+        verify(userRetrievalHelper, times(1)).findByUsername("kyle");
+
+        //After a rename the index still points at id 7, whose reloaded user no longer matches.
+        when(userRetrievalHelper.loadUserById(7)).thenReturn(user(7, "kyle2", "hash"));
+        service.onUserAccountChanged(new UserAccountChangedEvent(7));
+        service.loadUserById(7);
+
+        when(userRetrievalHelper.findByUsername("kyle")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service.loadUserByUsername("kyle"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    // Test 4: Rehash - An upgraded hash is saved and the cached user is replaced
+    @Test
+    void testUpdatePassword()
+    {
+        when(userRetrievalHelper.loadUserById(7)).thenReturn(user(7, "kyle", "old"), user(7, "kyle", "{bcrypt}new"));
+        UserDetails cached = service.loadUserById(7);
+
+        UserDetails updated = service.updatePassword(cached, "{bcrypt}new");
+
+        verify(userRetrievalHelper).updatePassword(7, "{bcrypt}new");
+        assertThat(updated.getPassword()).isEqualTo("{bcrypt}new");
+        assertThat(service.loadUserById(7).getPassword()).isEqualTo("{bcrypt}new");
+    }
+}
+
+//***************************************************************************************
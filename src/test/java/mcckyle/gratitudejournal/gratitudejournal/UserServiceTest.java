@@ -0,0 +1,112 @@
+//***************************************************************************************
+//
+//     Filename: UserServiceTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for registration in the UserService.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.dto.UserRegistrationDTO;
+import mcckyle.gratitudejournal.gratitudejournal.exception.DuplicateUserException;
+import mcckyle.gratitudejournal.gratitudejournal.model.Role;
+import mcckyle.gratitudejournal.gratitudejournal.model.User;
+import mcckyle.gratitudejournal.gratitudejournal.repository.UserRepository;
+import mcckyle.gratitudejournal.gratitudejournal.service.RoleRegistry;
+import mcckyle.gratitudejournal.gratitudejournal.service.UserService;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+//***************************************************************************************
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest
+{
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRegistry roleRegistry;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserService userService;
+
+    private final Role userRole = new Role(RoleRegistry.ROLE_USER);
+
+    @BeforeEach
+    void setUp()
+    {
+        userService = new UserService(userRepository, roleRegistry, passwordEncoder, eventPublisher);
+        when(passwordEncoder.encode("password123")).thenReturn("hash");
+        when(roleRegistry.get(RoleRegistry.ROLE_USER)).thenReturn(userRole);
+    }
+
+    private static UserRegistrationDTO registration()
+    {
+        UserRegistrationDTO dto = new UserRegistrationDTO();
+        dto.setUsername("kyle");
+        dto.setEmail("kyle@example.com");
+        dto.setPassword("password123");
+        return dto;
+    }
+
+    private static DataIntegrityViolationException violation(String constraint)
+    {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraint));
+    }
+
+    // Test 1: Registration - The user is saved with the registry's role and nothing else is queried
+    @Test
+    void testRegisterSingleInsert()
+    {
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        User user = userService.registerUser(registration());
+
+        assertThat(user.getPassword()).isEqualTo("hash");
+        assertThat(user.getRoles()).containsExactly(userRole);
+        verify(userRepository).save(user);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    // Test 2: Duplicates - Each unique constraint is reported with its original message
+    @Test
+    void testDuplicatesTranslated()
+    {
+        when(userRepository.save(any(User.class)))
+                .thenThrow(violation(User.USERNAME_CONSTRAINT), violation(User.EMAIL_CONSTRAINT.toUpperCase()));
+
+        assertThatThrownBy(() -> userService.registerUser(registration()))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessage("Error: Username is already taken!");
+        assertThatThrownBy(() -> userService.registerUser(registration()))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessage("Error: Email is already in use!");
+    }
+}
+
+//***************************************************************************************
@@ -0,0 +1,50 @@
+//***************************************************************************************
+//
+//     Filename: UserVersionsTest.java
+//     Author: Kyle McColgan
+//     Date: 18 October 2026
+//     Description: This file contains unit tests for UserVersions.
+//
+//***************************************************************************************
+
+package mcckyle.gratitudejournal.gratitudejournal;
+
+import mcckyle.gratitudejournal.gratitudejournal.service.UserVersions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//***************************************************************************************
+
+class UserVersionsTest
+{
+    // Test 1: Versions - A bump moves only that user to a new version
+    @Test
+    void testBumpIsPerUser()
+    {
+        UserVersions versions = new UserVersions(100);
+        long alice = versions.current(1);
+        long bob = versions.current(2);
+
+        versions.bumpAfterCommit(1);
+
+        assertThat(versions.current(1)).isNotEqualTo(alice);
+        assertThat(versions.current(2)).isEqualTo(bob);
+    }
+
+    // Test 2: Versions - One counter serves every user, so no version is ever handed out twice
+    @Test
+    void testVersionsNeverRepeat()
+    {
+        UserVersions versions = new UserVersions(100);
+        long first = versions.current(1);
+
+        versions.bumpAfterCommit(1);
+        versions.bumpAfterCommit(1);
+
+        assertThat(versions.current(1)).isGreaterThan(first);
+        assertThat(versions.current(2)).isGreaterThan(versions.current(1));
+    }
+}
+
+//***************************************************************************************